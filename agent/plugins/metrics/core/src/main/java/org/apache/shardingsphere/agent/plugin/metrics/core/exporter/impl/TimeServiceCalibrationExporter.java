@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.timeservice.core.statistics.TimeServiceCalibrationStatistics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Time service calibration exporter.
+ */
+public final class TimeServiceCalibrationExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("time_service_calibration", MetricCollectorType.GAUGE_METRIC_FAMILY,
+            "Calibration of time service. skew_millis is skew between estimated and sampled time of last calibration; error_millis is error bound of last sampled time; "
+                    + "count is calibration count; forced_count is calibration count which reset estimation because skew exceeds tolerance; "
+                    + "failed_count is calibration count which failed to sample time",
+            Arrays.asList("type", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (Entry<String, TimeServiceCalibrationStatistics> entry : TimeServiceCalibrationStatistics.getAll().entrySet()) {
+            result.addMetric(Arrays.asList(entry.getKey(), "skew_millis"), entry.getValue().getSkewMillis());
+            result.addMetric(Arrays.asList(entry.getKey(), "error_millis"), entry.getValue().getErrorMillis());
+            result.addMetric(Arrays.asList(entry.getKey(), "count"), entry.getValue().getCalibrationCount());
+            result.addMetric(Arrays.asList(entry.getKey(), "forced_count"), entry.getValue().getForcedCalibrationCount());
+            result.addMetric(Arrays.asList(entry.getKey(), "failed_count"), entry.getValue().getFailedCalibrationCount());
+        }
+        return Optional.of(result);
+    }
+}
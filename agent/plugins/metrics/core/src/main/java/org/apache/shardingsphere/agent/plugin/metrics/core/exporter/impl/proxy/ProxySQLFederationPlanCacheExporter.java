@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.sqlfederation.advanced.plan.SQLFederationPlanCacheStatistics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Proxy SQL federation plan cache exporter.
+ */
+public final class ProxySQLFederationPlanCacheExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_sql_federation_plan_cache", MetricCollectorType.GAUGE_METRIC_FAMILY,
+            "Plan cache result of SQL federation. hit is cached plan count; miss is planned count without cache; planning_time_millis is total planning time of missed plans",
+            Arrays.asList("database", "result"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (Entry<String, SQLFederationPlanCacheStatistics> entry : SQLFederationPlanCacheStatistics.getAll().entrySet()) {
+            result.addMetric(Arrays.asList(entry.getKey(), "hit"), entry.getValue().getHitCount());
+            result.addMetric(Arrays.asList(entry.getKey(), "miss"), entry.getValue().getMissCount());
+            result.addMetric(Arrays.asList(entry.getKey(), "planning_time_millis"), entry.getValue().getPlanningTimeMillis());
+        }
+        return Optional.of(result);
+    }
+}
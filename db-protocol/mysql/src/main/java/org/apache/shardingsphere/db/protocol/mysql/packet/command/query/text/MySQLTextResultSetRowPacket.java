@@ -42,6 +42,10 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
     
     private static final DateTimeFormatter DT_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
+    private static final byte[] TRUE_VALUE = {1};
+    
+    private static final byte[] FALSE_VALUE = {0};
+    
     private final Collection<Object> data;
     
     public MySQLTextResultSetRowPacket(final MySQLPacketPayload payload, final int columnCount) {
@@ -57,14 +61,19 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
             if (null == each) {
                 payload.writeInt1(NULL);
             } else {
-                if (each instanceof byte[]) {
+                if (each instanceof String) {
+                    payload.writeStringLenenc((String) each);
+                } else if (each instanceof Integer || each instanceof Long || each instanceof Short || each instanceof Byte) {
+                    payload.writeIntegerStringLenenc(((Number) each).longValue());
+                } else if (each instanceof byte[]) {
                     payload.writeBytesLenenc((byte[]) each);
                 } else if (each instanceof Timestamp && 0 == ((Timestamp) each).getNanos()) {
-                    payload.writeStringLenenc(each.toString().split("\\.")[0]);
+                    String value = each.toString();
+                    payload.writeStringLenenc(value.substring(0, value.lastIndexOf('.')));
                 } else if (each instanceof BigDecimal) {
                     payload.writeStringLenenc(((BigDecimal) each).toPlainString());
                 } else if (each instanceof Boolean) {
-                    payload.writeBytesLenenc((Boolean) each ? new byte[]{1} : new byte[]{0});
+                    payload.writeBytesLenenc((Boolean) each ? TRUE_VALUE : FALSE_VALUE);
                 } else if (each instanceof LocalDateTime) {
                     payload.writeStringLenenc(DT_FMT.format((LocalDateTime) each));
                 } else {
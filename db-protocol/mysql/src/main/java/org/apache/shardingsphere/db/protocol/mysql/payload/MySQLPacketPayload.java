@@ -284,6 +284,30 @@ public final class MySQLPacketPayload implements PacketPayload {
         byteBuf.writeBytes(valueBytes);
     }
     
+    /**
+     * Write lenenc string of integer to byte buffers.
+     *
+     * <p>
+     * Digits are written as ASCII bytes without creating string, they are same in all character sets which MySQL client can use.
+     * </p>
+     *
+     * @param value integer value
+     */
+    public void writeIntegerStringLenenc(final long value) {
+        byte[] digits = new byte[20];
+        int index = digits.length;
+        long negativeValue = value < 0L ? value : -value;
+        do {
+            digits[--index] = (byte) ('0' - negativeValue % 10L);
+            negativeValue /= 10L;
+        } while (0L != negativeValue);
+        if (value < 0L) {
+            digits[--index] = '-';
+        }
+        byteBuf.writeByte(digits.length - index);
+        byteBuf.writeBytes(digits, index, digits.length - index);
+    }
+    
     /**
      * Write lenenc bytes to byte buffers.
      *
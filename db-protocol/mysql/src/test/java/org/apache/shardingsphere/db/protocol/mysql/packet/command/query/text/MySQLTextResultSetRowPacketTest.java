@@ -75,6 +75,17 @@ class MySQLTextResultSetRowPacketTest {
         verify(payload).writeStringLenenc(timestamp.toString().split("\\.")[0]);
     }
     
+    @Test
+    void assertWriteIntegerAndBoolean() {
+        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Arrays.asList(1, 2L, (short) 3, (byte) 4, true));
+        actual.write(payload);
+        verify(payload).writeIntegerStringLenenc(1L);
+        verify(payload).writeIntegerStringLenenc(2L);
+        verify(payload).writeIntegerStringLenenc(3L);
+        verify(payload).writeIntegerStringLenenc(4L);
+        verify(payload).writeBytesLenenc(new byte[]{1});
+    }
+    
     @Test
     void assertLocalDateTime() {
         String localDateTimeStr = "2021-08-23T17:30:30";
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.db.protocol.mysql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -207,6 +208,18 @@ class MySQLPacketPayloadTest {
         verify(byteBuf).writeBytes("value".getBytes());
     }
     
+    @Test
+    void assertWriteIntegerStringLenenc() {
+        ByteBuf actual = Unpooled.buffer();
+        MySQLPacketPayload payload = new MySQLPacketPayload(actual, StandardCharsets.UTF_8);
+        payload.writeIntegerStringLenenc(0L);
+        payload.writeIntegerStringLenenc(-123L);
+        payload.writeIntegerStringLenenc(Long.MIN_VALUE);
+        assertThat(payload.readStringLenenc(), is("0"));
+        assertThat(payload.readStringLenenc(), is("-123"));
+        assertThat(payload.readStringLenenc(), is(String.valueOf(Long.MIN_VALUE)));
+    }
+    
     @Test
     void assertReadStringFix() {
         assertThat(new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8).readStringFix(0), is(""));
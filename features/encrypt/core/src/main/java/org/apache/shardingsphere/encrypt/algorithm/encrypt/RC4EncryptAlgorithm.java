@@ -45,6 +45,7 @@ public final class RC4EncryptAlgorithm implements StandardEncryptAlgorithm<Objec
     public void init(final Properties props) {
         reset();
         setKey(props.getProperty(RC4_KEY, "").getBytes(StandardCharsets.UTF_8));
+        sBox = initSBox(key);
     }
     
     private void setKey(final byte[] key) {
@@ -78,18 +79,19 @@ public final class RC4EncryptAlgorithm implements StandardEncryptAlgorithm<Objec
     }
     
     /*
-     * @see <a href="http://en.wikipedia.org/wiki/RC4#Pseudo-random_generation_algorithm_.28PRGA.29">Pseudo-random generation algorithm</a>
+     * @see <a href="http://en.wikipedia.org/wiki/RC4#Pseudo-random_generation_algorithm_.28PRGA.29">Pseudo-random generation algorithm</a> The key scheduled sBox is initialized once and copied for
+     * every message, so concurrent calls do not share state.
      */
     private byte[] crypt(final byte[] message) {
-        sBox = initSBox(key);
+        int[] state = sBox.clone();
         byte[] result = new byte[message.length];
         int i = 0;
         int j = 0;
         for (int n = 0; n < message.length; n++) {
             i = (i + 1) % SBOX_LENGTH;
-            j = (j + sBox[i]) % SBOX_LENGTH;
-            swap(i, j, sBox);
-            int rand = sBox[(sBox[i] + sBox[j]) % SBOX_LENGTH];
+            j = (j + state[i]) % SBOX_LENGTH;
+            swap(i, j, state);
+            int rand = state[(state[i] + state[j]) % SBOX_LENGTH];
             result[n] = (byte) (rand ^ message[n]);
         }
         return result;
@@ -19,6 +19,9 @@ package org.apache.shardingsphere.sharding.spi;
 
 import org.apache.shardingsphere.infra.util.spi.type.typed.algorithm.ShardingSphereAlgorithm;
 
+import java.util.ArrayList;
+import java.util.Collection;
+
 /**
  * Key generate algorithm.
  */
@@ -31,6 +34,24 @@ public interface KeyGenerateAlgorithm extends ShardingSphereAlgorithm {
      */
     Comparable<?> generateKey();
     
+    /**
+     * Generate keys.
+     *
+     * <p>
+     * Algorithms which can reserve several keys in one step should override this method, the default implementation generates keys one by one.
+     * </p>
+     *
+     * @param keyGenerateCount key generate count
+     * @return generated keys
+     */
+    default Collection<? extends Comparable<?>> generateKeys(final int keyGenerateCount) {
+        Collection<Comparable<?>> result = new ArrayList<>(keyGenerateCount);
+        for (int i = 0; i < keyGenerateCount; i++) {
+            result.add(generateKey());
+        }
+        return result;
+    }
+    
     /**
      * Judge whether support auto increment or not.
      * 
@@ -26,8 +26,12 @@ import org.apache.shardingsphere.sharding.exception.algorithm.keygen.KeyGenerate
 import org.apache.shardingsphere.sharding.exception.algorithm.keygen.SnowflakeClockMoveBackException;
 import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Snowflake key generate algorithm.
@@ -39,6 +43,10 @@ import java.util.Properties;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ * 
+ * <p>
+ * Last milliseconds and sequence are packed into one atomic state, keys are reserved by compare and set without lock.
+ * </p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, InstanceContextAware {
     
@@ -73,11 +81,9 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private int maxTolerateTimeDifferenceMilliseconds;
     
-    private volatile int sequenceOffset = -1;
-    
-    private volatile long sequence;
+    private final AtomicInteger sequenceOffset = new AtomicInteger(-1);
     
-    private volatile long lastMilliseconds;
+    private final AtomicLong state = new AtomicLong();
     
     private volatile InstanceContext instanceContext;
     
@@ -117,25 +123,58 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     }
     
     @Override
-    public synchronized Long generateKey() {
-        long currentMilliseconds = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
-            currentMilliseconds = timeService.getCurrentMillis();
+    public Long generateKey() {
+        long reservedState = reserveSequences(1);
+        return createKey(reservedState >>> SEQUENCE_BITS, getWorkerId(), reservedState & SEQUENCE_MASK);
+    }
+    
+    @Override
+    public Collection<Long> generateKeys(final int keyGenerateCount) {
+        Collection<Long> result = new ArrayList<>(keyGenerateCount);
+        long workerId = getWorkerId();
+        while (result.size() < keyGenerateCount) {
+            int remainingCount = keyGenerateCount - result.size();
+            long reservedState = reserveSequences(remainingCount);
+            long milliseconds = reservedState >>> SEQUENCE_BITS;
+            long firstSequence = reservedState & SEQUENCE_MASK;
+            long lastSequence = Math.min(firstSequence + remainingCount - 1, SEQUENCE_MASK);
+            for (long each = firstSequence; each <= lastSequence; each++) {
+                result.add(createKey(milliseconds, workerId, each));
+            }
         }
-        if (lastMilliseconds == currentMilliseconds) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
-                currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+        return result;
+    }
+    
+    private long reserveSequences(final int count) {
+        while (true) {
+            long lastState = state.get();
+            long lastMilliseconds = lastState >>> SEQUENCE_BITS;
+            long currentMilliseconds = timeService.getCurrentMillis();
+            if (waitTolerateTimeDifferenceIfNeed(lastMilliseconds, currentMilliseconds)) {
+                currentMilliseconds = timeService.getCurrentMillis();
+            }
+            long firstSequence;
+            if (lastMilliseconds == currentMilliseconds) {
+                firstSequence = (lastState + 1) & SEQUENCE_MASK;
+                if (0L == firstSequence) {
+                    currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+                }
+            } else {
+                firstSequence = vibrateSequenceOffset();
+            }
+            long lastSequence = Math.min(firstSequence + count - 1, SEQUENCE_MASK);
+            if (state.compareAndSet(lastState, currentMilliseconds << SEQUENCE_BITS | lastSequence)) {
+                return currentMilliseconds << SEQUENCE_BITS | firstSequence;
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence = sequenceOffset;
         }
-        lastMilliseconds = currentMilliseconds;
-        return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+    }
+    
+    private long createKey(final long milliseconds, final long workerId, final long sequence) {
+        return ((milliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
     }
     
     @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMilliseconds, final long currentMilliseconds) {
         if (lastMilliseconds <= currentMilliseconds) {
             return false;
         }
@@ -153,9 +192,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         return result;
     }
     
-    @SuppressWarnings("NonAtomicOperationOnVolatileField")
-    private void vibrateSequenceOffset() {
-        sequenceOffset = sequenceOffset >= maxVibrationOffset ? 0 : sequenceOffset + 1;
+    private int vibrateSequenceOffset() {
+        return sequenceOffset.updateAndGet(each -> each >= maxVibrationOffset ? 0 : each + 1);
     }
     
     private int getWorkerId() {
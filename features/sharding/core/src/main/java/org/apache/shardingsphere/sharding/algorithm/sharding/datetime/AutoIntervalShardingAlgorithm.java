@@ -58,11 +58,14 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     @Getter
     private int autoTablesAmount;
     
+    private long[] partitionLowerSeconds;
+    
     @Override
     public void init(final Properties props) {
         dateTimeLower = getDateTime(props);
         shardingSeconds = getShardingSeconds(props);
         autoTablesAmount = (int) (Math.ceil((double) (parseDate(props.getProperty(DATE_TIME_UPPER_KEY)) / shardingSeconds)) + 2);
+        partitionLowerSeconds = createPartitionLowerSeconds();
     }
     
     private LocalDateTime getDateTime(final Properties props) {
@@ -100,6 +103,36 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     }
     
     private int doSharding(final long shardingValue) {
+        int low = 0;
+        int high = partitionLowerSeconds.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (partitionLowerSeconds[middle] <= shardingValue) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+    
+    private long[] createPartitionLowerSeconds() {
+        long[] result = new long[Math.max(autoTablesAmount - 1, 0)];
+        for (int i = 0; i < result.length; i++) {
+            int partition = i + 1;
+            long lowerSeconds = (long) ((partition - 1 + 0.005D) * shardingSeconds);
+            while (calculatePartition(lowerSeconds) >= partition) {
+                lowerSeconds--;
+            }
+            while (calculatePartition(lowerSeconds) < partition) {
+                lowerSeconds++;
+            }
+            result[i] = lowerSeconds;
+        }
+        return result;
+    }
+    
+    private int calculatePartition(final long shardingValue) {
         String position = new DecimalFormat("0.00").format((double) shardingValue / shardingSeconds);
         return Math.min(Math.max(0, (int) Math.ceil(Double.parseDouble(position))), autoTablesAmount - 1);
     }
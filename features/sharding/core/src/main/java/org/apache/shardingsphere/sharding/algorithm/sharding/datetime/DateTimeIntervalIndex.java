@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Date time interval index.
+ *
+ * <p>
+ * Intervals are chained by interval step from datetime lower to datetime upper.
+ * The interval which contains the lower endpoint of sharding range is located by interval locator, so intervals are walked from there instead of from datetime lower.
+ * </p>
+ *
+ * @param <T> type of date time
+ */
+@RequiredArgsConstructor
+final class DateTimeIntervalIndex<T extends Comparable<? super T>> {
+    
+    private final T dateTimeLower;
+    
+    private final T dateTimeUpper;
+    
+    private final UnaryOperator<T> stepper;
+    
+    private final UnaryOperator<T> intervalLocator;
+    
+    private final Function<Comparable<?>, T> endpointParser;
+    
+    private final Function<T, String> tableSuffixFormatter;
+    
+    /**
+     * Get table suffixes of intervals intersected with range.
+     *
+     * @param range sharding value range
+     * @return table suffixes
+     */
+    Collection<String> getTableSuffixes(final Range<Comparable<?>> range) {
+        Collection<String> result = new LinkedList<>();
+        T lower = range.hasLowerBound() ? endpointParser.apply(range.lowerEndpoint()) : dateTimeLower;
+        T upper = range.hasUpperBound() ? endpointParser.apply(range.upperEndpoint()) : dateTimeUpper;
+        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
+        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
+        Range<T> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
+        T intervalLower = lower.compareTo(dateTimeLower) <= 0 ? dateTimeLower : intervalLocator.apply(lower);
+        while (intervalLower.compareTo(upper) <= 0 && intervalLower.compareTo(dateTimeUpper) <= 0) {
+            T intervalUpper = stepper.apply(intervalLower);
+            if (intervalUpper.compareTo(intervalLower) <= 0) {
+                break;
+            }
+            Range<T> interval = Range.closedOpen(intervalLower, intervalUpper);
+            if (interval.isConnected(dateTimeRange) && !interval.intersection(dateTimeRange).isEmpty()) {
+                result.add(tableSuffixFormatter.apply(intervalLower));
+            }
+            intervalLower = intervalUpper;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled inline sharding expression.
+ *
+ * <p>
+ * The expression is compiled only once. Expressions like {@code t_order_${order_id}} and {@code t_order_$->{order_id % 16}} are evaluated without groovy for integral and string values,
+ * other expressions and values fall back to a per-call copy of the pre-compiled closure.
+ * </p>
+ */
+public final class CompiledInlineShardingExpression {
+    
+    private static final Pattern SIMPLE_EXPRESSION_PATTERN = Pattern.compile("^([^$\"\\\\{}]*)\\$\\{\\s*([A-Za-z_][A-Za-z0-9_]*)\\s*(?:%\\s*([0-9]{1,18})\\s*)?}([^$\"\\\\{}]*)$");
+    
+    private final Closure<?> prototype;
+    
+    private final boolean simple;
+    
+    private final String prefix;
+    
+    private final String columnName;
+    
+    private final long modulus;
+    
+    private final String suffix;
+    
+    public CompiledInlineShardingExpression(final String expression) {
+        String handledExpression = InlineExpressionParser.handlePlaceHolder(expression);
+        prototype = new InlineExpressionParser(handledExpression).evaluateClosure();
+        Matcher matcher = SIMPLE_EXPRESSION_PATTERN.matcher(handledExpression);
+        long parsedModulus = matcher.matches() && null != matcher.group(3) ? Long.parseLong(matcher.group(3)) : -1L;
+        simple = matcher.matches() && 0L != parsedModulus;
+        prefix = simple ? matcher.group(1) : null;
+        columnName = simple ? matcher.group(2) : null;
+        modulus = parsedModulus;
+        suffix = simple ? matcher.group(4) : null;
+    }
+    
+    /**
+     * Evaluate expression with single column value.
+     *
+     * @param columnName column name
+     * @param value column value
+     * @return evaluated result
+     */
+    public String evaluate(final String columnName, final Comparable<?> value) {
+        if (isSimpleEvaluable(columnName, value)) {
+            return evaluateSimple(value);
+        }
+        Closure<?> closure = createClosure();
+        closure.setProperty(columnName, value);
+        return closure.call().toString();
+    }
+    
+    /**
+     * Evaluate expression with column values.
+     *
+     * @param columnValues column names and values
+     * @return evaluated result
+     */
+    public String evaluate(final Map<String, Comparable<?>> columnValues) {
+        if (1 == columnValues.size()) {
+            Entry<String, Comparable<?>> entry = columnValues.entrySet().iterator().next();
+            return evaluate(entry.getKey(), entry.getValue());
+        }
+        Closure<?> closure = createClosure();
+        for (Entry<String, Comparable<?>> entry : columnValues.entrySet()) {
+            closure.setProperty(entry.getKey(), entry.getValue());
+        }
+        return closure.call().toString();
+    }
+    
+    private boolean isSimpleEvaluable(final String columnName, final Comparable<?> value) {
+        if (!simple || !this.columnName.equals(columnName)) {
+            return false;
+        }
+        return isIntegral(value) || modulus < 0L && value instanceof String;
+    }
+    
+    private boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private String evaluateSimple(final Comparable<?> value) {
+        String evaluatedValue = modulus < 0L ? value.toString() : String.valueOf(((Number) value).longValue() % modulus);
+        return prefix + evaluatedValue + suffix;
+    }
+    
+    private Closure<?> createClosure() {
+        Closure<?> result = prototype.rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        return result;
+    }
+}
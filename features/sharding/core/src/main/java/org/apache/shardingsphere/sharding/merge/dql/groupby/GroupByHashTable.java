@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Group by hash table.
+ *
+ * <p>
+ * Open addressing hash table which assigns a dense group index to every distinct group by key.
+ * Group by keys are stored column oriented, so looking up a row costs one probe sequence without allocating key objects.
+ * </p>
+ */
+public final class GroupByHashTable {
+    
+    private static final int DEFAULT_CAPACITY = 1024;
+    
+    private static final float LOAD_FACTOR = 0.75F;
+    
+    private final int keyColumnCount;
+    
+    private Object[][] keyColumns;
+    
+    private int[] groupHashes;
+    
+    private int[] slots;
+    
+    private int size;
+    
+    private int threshold;
+    
+    public GroupByHashTable(final int keyColumnCount) {
+        this.keyColumnCount = keyColumnCount;
+        keyColumns = new Object[keyColumnCount][DEFAULT_CAPACITY];
+        groupHashes = new int[DEFAULT_CAPACITY];
+        slots = new int[DEFAULT_CAPACITY * 2];
+        threshold = (int) (slots.length * LOAD_FACTOR);
+    }
+    
+    /**
+     * Find group index of group by key, assign a new group index if absent.
+     *
+     * <p>
+     * The key values are copied when a new group is created, so the array can be reused by caller.
+     * </p>
+     *
+     * @param keyValues group by key values
+     * @return group index, equals to the size before invoking if a new group is created
+     */
+    public int findOrInsert(final Object[] keyValues) {
+        int hash = hash(keyValues);
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (0 != slots[slot]) {
+            int groupIndex = slots[slot] - 1;
+            if (groupHashes[groupIndex] == hash && isKeyEquals(groupIndex, keyValues)) {
+                return groupIndex;
+            }
+            slot = (slot + 1) & mask;
+        }
+        int result = size++;
+        ensureGroupCapacity(size);
+        for (int i = 0; i < keyColumnCount; i++) {
+            keyColumns[i][result] = keyValues[i];
+        }
+        groupHashes[result] = hash;
+        slots[slot] = result + 1;
+        if (size > threshold) {
+            rehash();
+        }
+        return result;
+    }
+    
+    /**
+     * Get group by key value.
+     *
+     * @param groupIndex group index
+     * @param keyColumnIndex key column index
+     * @return group by key value
+     */
+    public Object getKeyValue(final int groupIndex, final int keyColumnIndex) {
+        return keyColumns[keyColumnIndex][groupIndex];
+    }
+    
+    /**
+     * Get group count.
+     *
+     * @return group count
+     */
+    public int size() {
+        return size;
+    }
+    
+    private int hash(final Object[] keyValues) {
+        int result = 1;
+        for (int i = 0; i < keyColumnCount; i++) {
+            result = 31 * result + Objects.hashCode(keyValues[i]);
+        }
+        return result ^ result >>> 16;
+    }
+    
+    private boolean isKeyEquals(final int groupIndex, final Object[] keyValues) {
+        for (int i = 0; i < keyColumnCount; i++) {
+            if (!Objects.equals(keyColumns[i][groupIndex], keyValues[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void ensureGroupCapacity(final int capacity) {
+        if (capacity <= groupHashes.length) {
+            return;
+        }
+        int newCapacity = groupHashes.length << 1;
+        for (int i = 0; i < keyColumnCount; i++) {
+            keyColumns[i] = Arrays.copyOf(keyColumns[i], newCapacity);
+        }
+        groupHashes = Arrays.copyOf(groupHashes, newCapacity);
+    }
+    
+    private void rehash() {
+        slots = new int[slots.length << 1];
+        threshold = (int) (slots.length * LOAD_FACTOR);
+        int mask = slots.length - 1;
+        for (int groupIndex = 0; groupIndex < size; groupIndex++) {
+            int slot = groupHashes[groupIndex] & mask;
+            while (0 != slots[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = groupIndex + 1;
+        }
+    }
+}
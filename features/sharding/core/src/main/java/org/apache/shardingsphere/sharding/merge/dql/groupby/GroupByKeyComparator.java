@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Group by key comparator.
+ *
+ * <p>
+ * Rows are compared by group by values only, rows compared equal if and only if their group by values are equal, so rows of the same group are adjacent after sorted.
+ * The order between different groups is not the order required by SQL.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class GroupByKeyComparator implements Comparator<MemoryQueryResultRow> {
+    
+    private final List<OrderByItem> groupByItems;
+    
+    @Override
+    public int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2) {
+        for (OrderByItem each : groupByItems) {
+            int result = compareValue(o1.getCell(each.getIndex()), o2.getCell(each.getIndex()));
+            if (0 != result) {
+                return result;
+            }
+        }
+        return 0;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compareValue(final Object value1, final Object value2) {
+        if (Objects.equals(value1, value2)) {
+            return 0;
+        }
+        if (null == value1 || null == value2) {
+            return null == value1 ? -1 : 1;
+        }
+        if (value1.getClass() != value2.getClass()) {
+            return value1.getClass().getName().compareTo(value2.getClass().getName());
+        }
+        int result = value1 instanceof Comparable ? ((Comparable) value1).compareTo(value2) : 0;
+        return 0 == result ? value1.toString().compareTo(value2.toString()) : result;
+    }
+}
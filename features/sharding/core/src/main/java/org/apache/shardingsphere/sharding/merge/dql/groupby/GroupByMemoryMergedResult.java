@@ -17,20 +17,25 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
-import com.google.common.collect.Maps;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.SpillableMemoryQueryResultRows;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationColumn;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationColumnFactory;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -41,15 +46,20 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 
 /**
  * Memory merged result for group by.
+ *
+ * <p>
+ * When the memory quota is exceeded during aggregation, groups aggregated so far are spilled as a sorted run of partial aggregation rows and aggregation restarts with empty groups.
+ * Sorted runs are merged by group by values and partial aggregation rows of the same group are combined by aggregation units, then sorted by {@link GroupByRowComparator} under the same quota.
+ * Distinct aggregations keep all distinct values in memory, so they are never spilled.
+ * </p>
  */
 public final class GroupByMemoryMergedResult extends MemoryMergedResult<ShardingRule> {
     
@@ -57,50 +67,98 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         super(null, schema, selectStatementContext, queryResults);
     }
     
+    public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                                     final ConfigurationProperties props) throws SQLException {
+        super(null, schema, selectStatementContext, queryResults, props);
+    }
+    
     @Override
-    protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
-                                              final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
+    protected Iterable<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
+                                                  final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
-        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
-        for (QueryResult each : queryResults) {
-            while (each.next()) {
-                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap);
-                aggregate(selectStatementContext, each, groupByValue, aggregationMap);
+        List<OrderByItem> groupByItems = new ArrayList<>(selectStatementContext.getGroupByContext().getItems());
+        List<AggregationProjection> aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        long memoryQuotaBytes = isPartialAggregationSpillable(aggregationProjections) ? getProps().<Long>getValue(ConfigurationPropertyKey.MERGE_MEMORY_QUOTA_BYTES) : 0L;
+        SpillableMemoryQueryResultRows partialAggregationRows = new SpillableMemoryQueryResultRows(new GroupByKeyComparator(groupByItems), 0L);
+        try {
+            GroupByHashTable hashTable = new GroupByHashTable(groupByItems.size());
+            List<MemoryQueryResultRow> memoryResultSetRows = new ArrayList<>(1024);
+            List<AggregationColumn> aggregationColumns = createAggregationColumns(aggregationProjections);
+            long aggregatedBytes = 0L;
+            Object[] groupByValues = new Object[groupByItems.size()];
+            Comparable<?>[][] aggregationValues = createAggregationValues(aggregationProjections);
+            for (QueryResult each : queryResults) {
+                while (each.next()) {
+                    for (int i = 0; i < groupByValues.length; i++) {
+                        groupByValues[i] = each.getValue(groupByItems.get(i).getIndex(), Object.class);
+                    }
+                    int groupIndex = hashTable.findOrInsert(groupByValues);
+                    if (groupIndex == memoryResultSetRows.size()) {
+                        MemoryQueryResultRow row = new MemoryQueryResultRow(each);
+                        memoryResultSetRows.add(row);
+                        aggregatedBytes += SpillableMemoryQueryResultRows.estimateSize(row);
+                    }
+                    aggregate(each, groupIndex, aggregationProjections, aggregationColumns, aggregationValues);
+                    if (memoryQuotaBytes > 0L && aggregatedBytes > memoryQuotaBytes) {
+                        spillPartialAggregationRows(partialAggregationRows, memoryResultSetRows, aggregationProjections, aggregationColumns);
+                        hashTable = new GroupByHashTable(groupByItems.size());
+                        aggregationColumns = createAggregationColumns(aggregationProjections);
+                        aggregatedBytes = 0L;
+                    }
+                }
+            }
+            List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
+            if (partialAggregationRows.isSpilled()) {
+                spillPartialAggregationRows(partialAggregationRows, memoryResultSetRows, aggregationProjections, aggregationColumns);
+                return mergePartialAggregationRows(partialAggregationRows, new GroupByKeyComparator(groupByItems), aggregationProjections,
+                        new SpillableMemoryQueryResultRows(new GroupByRowComparator(selectStatementContext, valueCaseSensitive), memoryQuotaBytes));
+            }
+            setAggregationValueToMemoryRow(memoryResultSetRows, aggregationProjections, aggregationColumns);
+            return getMemoryResultSetRows(selectStatementContext, memoryResultSetRows, valueCaseSensitive);
+        } finally {
+            partialAggregationRows.close();
+        }
+    }
+    
+    private boolean isPartialAggregationSpillable(final List<AggregationProjection> aggregationProjections) {
+        for (AggregationProjection each : aggregationProjections) {
+            if (each instanceof AggregationDistinctProjection) {
+                return false;
             }
         }
-        setAggregationValueToMemoryRow(selectStatementContext, dataMap, aggregationMap);
-        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
-        return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive);
+        return true;
     }
     
-    private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                                          final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+    private List<AggregationColumn> createAggregationColumns(final List<AggregationProjection> aggregationProjections) {
+        List<AggregationColumn> result = new ArrayList<>(aggregationProjections.size());
+        boolean approximateDistinctCount = getProps().getValue(ConfigurationPropertyKey.MERGE_APPROXIMATE_DISTINCT_COUNT_ENABLED);
+        for (AggregationProjection each : aggregationProjections) {
+            result.add(AggregationColumnFactory.create(each.getType(), each instanceof AggregationDistinctProjection, approximateDistinctCount));
         }
-        if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationProjection, AggregationUnit> map = Maps
-                    .toMap(selectStatementContext.getProjectionsContext()
-                            .getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
-            aggregationMap.put(groupByValue, map);
+        return result;
+    }
+    
+    private Comparable<?>[][] createAggregationValues(final List<AggregationProjection> aggregationProjections) {
+        Comparable<?>[][] result = new Comparable<?>[aggregationProjections.size()][];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new Comparable<?>[Math.max(1, aggregationProjections.get(i).getDerivedAggregationProjections().size())];
         }
+        return result;
     }
     
-    private void aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                           final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
+    private void aggregate(final QueryResult queryResult, final int groupIndex, final List<AggregationProjection> aggregationProjections,
+                           final List<AggregationColumn> aggregationColumns, final Comparable<?>[][] aggregationValues) throws SQLException {
+        for (int i = 0; i < aggregationProjections.size(); i++) {
+            AggregationProjection aggregationProjection = aggregationProjections.get(i);
+            Comparable<?>[] values = aggregationValues[i];
+            if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+                values[0] = getAggregationValue(queryResult, aggregationProjection);
             } else {
-                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(queryResult, derived));
+                for (int j = 0; j < values.length; j++) {
+                    values[j] = getAggregationValue(queryResult, aggregationProjection.getDerivedAggregationProjections().get(j));
                 }
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+            aggregationColumns.get(i).merge(groupIndex, values);
         }
     }
     
@@ -110,12 +168,81 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return (Comparable<?>) result;
     }
     
-    private void setAggregationValueToMemoryRow(final SelectStatementContext selectStatementContext,
-                                                final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
-        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+    private void setAggregationValueToMemoryRow(final List<MemoryQueryResultRow> memoryResultSetRows,
+                                                final List<AggregationProjection> aggregationProjections, final List<AggregationColumn> aggregationColumns) {
+        for (int groupIndex = 0; groupIndex < memoryResultSetRows.size(); groupIndex++) {
+            for (int i = 0; i < aggregationProjections.size(); i++) {
+                memoryResultSetRows.get(groupIndex).setCell(aggregationProjections.get(i).getIndex(), aggregationColumns.get(i).getResult(groupIndex));
+            }
+        }
+    }
+    
+    private void spillPartialAggregationRows(final SpillableMemoryQueryResultRows partialAggregationRows, final List<MemoryQueryResultRow> memoryResultSetRows,
+                                             final List<AggregationProjection> aggregationProjections, final List<AggregationColumn> aggregationColumns) throws SQLException {
+        setAggregationValueToMemoryRow(memoryResultSetRows, aggregationProjections, aggregationColumns);
+        for (MemoryQueryResultRow each : memoryResultSetRows) {
+            partialAggregationRows.add(each);
+        }
+        memoryResultSetRows.clear();
+        partialAggregationRows.spill();
+    }
+    
+    private Iterable<MemoryQueryResultRow> mergePartialAggregationRows(final SpillableMemoryQueryResultRows partialAggregationRows, final GroupByKeyComparator groupByKeyComparator,
+                                                                       final List<AggregationProjection> aggregationProjections, final SpillableMemoryQueryResultRows result) throws SQLException {
+        boolean merged = false;
+        try {
+            Iterator<MemoryQueryResultRow> partialRows = partialAggregationRows.iterator();
+            MemoryQueryResultRow groupRow = partialRows.next();
+            List<AggregationUnit> aggregationUnits = createAggregationUnits(aggregationProjections);
+            mergeAggregationUnits(groupRow, aggregationProjections, aggregationUnits);
+            while (partialRows.hasNext()) {
+                MemoryQueryResultRow each = partialRows.next();
+                if (0 != groupByKeyComparator.compare(groupRow, each)) {
+                    setAggregationUnitResultToMemoryRow(groupRow, aggregationProjections, aggregationUnits);
+                    result.add(groupRow);
+                    groupRow = each;
+                    aggregationUnits = createAggregationUnits(aggregationProjections);
+                }
+                mergeAggregationUnits(each, aggregationProjections, aggregationUnits);
+            }
+            setAggregationUnitResultToMemoryRow(groupRow, aggregationProjections, aggregationUnits);
+            result.add(groupRow);
+            merged = true;
+            return result;
+        } finally {
+            if (!merged) {
+                result.close();
+            }
+        }
+    }
+    
+    private List<AggregationUnit> createAggregationUnits(final List<AggregationProjection> aggregationProjections) {
+        List<AggregationUnit> result = new ArrayList<>(aggregationProjections.size());
+        for (AggregationProjection each : aggregationProjections) {
+            result.add(AggregationUnitFactory.create(each.getType(), false));
+        }
+        return result;
+    }
+    
+    private void mergeAggregationUnits(final MemoryQueryResultRow partialRow, final List<AggregationProjection> aggregationProjections, final List<AggregationUnit> aggregationUnits) {
+        for (int i = 0; i < aggregationProjections.size(); i++) {
+            AggregationProjection aggregationProjection = aggregationProjections.get(i);
+            List<Comparable<?>> values = new ArrayList<>(Math.max(1, aggregationProjection.getDerivedAggregationProjections().size()));
+            if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+                values.add((Comparable<?>) partialRow.getCell(aggregationProjection.getIndex()));
+            } else {
+                for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+                    values.add((Comparable<?>) partialRow.getCell(each.getIndex()));
+                }
             }
+            aggregationUnits.get(i).merge(values);
+        }
+    }
+    
+    private void setAggregationUnitResultToMemoryRow(final MemoryQueryResultRow memoryResultSetRow,
+                                                     final List<AggregationProjection> aggregationProjections, final List<AggregationUnit> aggregationUnits) {
+        for (int i = 0; i < aggregationProjections.size(); i++) {
+            memoryResultSetRow.setCell(aggregationProjections.get(i).getIndex(), aggregationUnits.get(i).getResult());
         }
     }
     
@@ -143,14 +270,13 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
     }
     
     private List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext,
-                                                              final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
-        if (dataMap.isEmpty()) {
+                                                              final List<MemoryQueryResultRow> memoryResultSetRows, final List<Boolean> valueCaseSensitive) {
+        if (memoryResultSetRows.isEmpty()) {
             Object[] data = generateReturnData(selectStatementContext);
             return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
         }
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
-        return result;
+        memoryResultSetRows.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+        return memoryResultSetRows;
     }
     
     private Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
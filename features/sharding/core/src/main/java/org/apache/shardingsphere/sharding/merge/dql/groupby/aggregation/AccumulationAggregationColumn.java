@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Accumulation aggregation column.
+ *
+ * <p>
+ * Integral values are accumulated into primitive long array, groups overflow or containing non integral values are promoted to big decimal.
+ * </p>
+ */
+public final class AccumulationAggregationColumn implements AggregationColumn {
+    
+    private static final byte ABSENT = 0;
+    
+    private static final byte LONG_VALUE = 1;
+    
+    private static final byte DECIMAL_VALUE = 2;
+    
+    private static final int DEFAULT_CAPACITY = 1024;
+    
+    private byte[] states = new byte[DEFAULT_CAPACITY];
+    
+    private long[] longValues = new long[DEFAULT_CAPACITY];
+    
+    private BigDecimal[] decimalValues;
+    
+    @Override
+    public void merge(final int groupIndex, final Comparable<?>[] values) {
+        add(groupIndex, values[0]);
+    }
+    
+    /**
+     * Add value into group.
+     *
+     * @param groupIndex group index
+     * @param value value to be added
+     */
+    public void add(final int groupIndex, final Comparable<?> value) {
+        if (null == value) {
+            return;
+        }
+        ensureCapacity(groupIndex + 1);
+        if (DECIMAL_VALUE != states[groupIndex] && isIntegral(value)) {
+            long addend = ((Number) value).longValue();
+            if (ABSENT == states[groupIndex]) {
+                states[groupIndex] = LONG_VALUE;
+                longValues[groupIndex] = addend;
+                return;
+            }
+            long augend = longValues[groupIndex];
+            long sum = augend + addend;
+            if (((augend ^ sum) & (addend ^ sum)) >= 0L) {
+                longValues[groupIndex] = sum;
+                return;
+            }
+        }
+        addDecimal(groupIndex, new BigDecimal(value.toString()));
+    }
+    
+    private boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private void addDecimal(final int groupIndex, final BigDecimal value) {
+        if (null == decimalValues) {
+            decimalValues = new BigDecimal[states.length];
+        }
+        BigDecimal augend = LONG_VALUE == states[groupIndex] ? BigDecimal.valueOf(longValues[groupIndex]) : DECIMAL_VALUE == states[groupIndex] ? decimalValues[groupIndex] : BigDecimal.ZERO;
+        decimalValues[groupIndex] = augend.add(value);
+        states[groupIndex] = DECIMAL_VALUE;
+    }
+    
+    private void ensureCapacity(final int capacity) {
+        if (capacity <= states.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, states.length << 1);
+        states = Arrays.copyOf(states, newCapacity);
+        longValues = Arrays.copyOf(longValues, newCapacity);
+        if (null != decimalValues) {
+            decimalValues = Arrays.copyOf(decimalValues, newCapacity);
+        }
+    }
+    
+    @Override
+    public BigDecimal getResult(final int groupIndex) {
+        if (groupIndex >= states.length) {
+            return null;
+        }
+        switch (states[groupIndex]) {
+            case LONG_VALUE:
+                return BigDecimal.valueOf(longValues[groupIndex]);
+            case DECIMAL_VALUE:
+                return decimalValues[groupIndex];
+            default:
+                return null;
+        }
+    }
+}
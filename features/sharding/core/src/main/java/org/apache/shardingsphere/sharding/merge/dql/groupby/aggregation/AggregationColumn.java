@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+/**
+ * Aggregation column, which keeps aggregation states of all groups for one aggregation projection.
+ */
+public interface AggregationColumn {
+    
+    /**
+     * Merge aggregation values into group.
+     *
+     * @param groupIndex group index
+     * @param values aggregation values, the array may be reused by caller after merged
+     */
+    void merge(int groupIndex, Comparable<?>[] values);
+    
+    /**
+     * Get aggregation result of group.
+     *
+     * @param groupIndex group index
+     * @return aggregation result
+     */
+    Comparable<?> getResult(int groupIndex);
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+
+/**
+ * Aggregation column factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AggregationColumnFactory {
+    
+    /**
+     * Create aggregation column instance.
+     *
+     * <p>
+     * Aggregation types without primitive column implementation fall back to {@link UnitAggregationColumn}.
+     * </p>
+     *
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @return aggregation column instance
+     */
+    public static AggregationColumn create(final AggregationType type, final boolean isDistinct) {
+        return create(type, isDistinct, false);
+    }
+    
+    /**
+     * Create aggregation column instance.
+     *
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param isApproximateDistinctCount whether count distinct values approximately
+     * @return aggregation column instance
+     */
+    public static AggregationColumn create(final AggregationType type, final boolean isDistinct, final boolean isApproximateDistinctCount) {
+        switch (type) {
+            case MAX:
+                return new ComparableAggregationColumn(false);
+            case MIN:
+                return new ComparableAggregationColumn(true);
+            case SUM:
+                return isDistinct ? new UnitAggregationColumn(type, true) : new AccumulationAggregationColumn();
+            case COUNT:
+                return isDistinct ? new UnitAggregationColumn(type, true, isApproximateDistinctCount) : new AccumulationAggregationColumn();
+            case AVG:
+                return isDistinct ? new UnitAggregationColumn(type, true) : new AverageAggregationColumn();
+            default:
+                return new UnitAggregationColumn(type, isDistinct);
+        }
+    }
+}
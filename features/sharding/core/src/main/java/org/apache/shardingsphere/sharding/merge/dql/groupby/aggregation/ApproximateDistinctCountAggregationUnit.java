@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Approximate distinct count aggregation unit.
+ *
+ * <p>
+ * Distinct values are added to a {@link HyperLogLog} sketch instead of kept in memory, so the memory is bounded for each group.
+ * </p>
+ */
+public final class ApproximateDistinctCountAggregationUnit implements AggregationUnit {
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    private final HyperLogLog hyperLogLog = new HyperLogLog();
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        hyperLogLog.add(hash(values.get(0)));
+    }
+    
+    private long hash(final Comparable<?> value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return HASH_FUNCTION.hashLong(((Number) value).longValue()).asLong();
+        }
+        if (value instanceof String) {
+            return HASH_FUNCTION.hashUnencodedChars((String) value).asLong();
+        }
+        if (value instanceof BigDecimal) {
+            return HASH_FUNCTION.hashUnencodedChars(((BigDecimal) value).toPlainString()).asLong();
+        }
+        return HASH_FUNCTION.hashUnencodedChars(value.toString()).asLong();
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return hyperLogLog.estimate();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Average aggregation column.
+ */
+public final class AverageAggregationColumn implements AggregationColumn {
+    
+    private final AccumulationAggregationColumn counts = new AccumulationAggregationColumn();
+    
+    private final AccumulationAggregationColumn sums = new AccumulationAggregationColumn();
+    
+    @Override
+    public void merge(final int groupIndex, final Comparable<?>[] values) {
+        if (null == values[0] || null == values[1]) {
+            return;
+        }
+        counts.add(groupIndex, values[0]);
+        sums.add(groupIndex, values[1]);
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupIndex) {
+        BigDecimal count = counts.getResult(groupIndex);
+        if (null == count || BigDecimal.ZERO.equals(count)) {
+            return count;
+        }
+        // TODO use metadata to fetch float number precise for database field
+        return sums.getResult(groupIndex).divide(count, 4, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.util.Arrays;
+
+/**
+ * HyperLogLog sketch for approximate distinct count.
+ *
+ * <p>
+ * Hashes are kept exactly until the sparse threshold is reached, then they are converted to {@code 2^14} registers, the standard error of estimation is about 0.81%.
+ * Memory of a sketch is bounded by the size of registers regardless of the distinct count.
+ * </p>
+ */
+public final class HyperLogLog {
+    
+    private static final int PRECISION = 14;
+    
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+    
+    private static final int SPARSE_THRESHOLD = 256;
+    
+    private static final double ALPHA = 0.7213D / (1D + 1.079D / REGISTER_COUNT);
+    
+    private long[] sparseHashes = new long[16];
+    
+    private int sparseSize;
+    
+    private byte[] registers;
+    
+    /**
+     * Add hash of value.
+     *
+     * @param hash 64 bits hash of value
+     */
+    public void add(final long hash) {
+        if (null != registers) {
+            addToRegisters(hash);
+            return;
+        }
+        for (int i = 0; i < sparseSize; i++) {
+            if (sparseHashes[i] == hash) {
+                return;
+            }
+        }
+        if (sparseSize == SPARSE_THRESHOLD) {
+            convertToRegisters();
+            addToRegisters(hash);
+            return;
+        }
+        if (sparseSize == sparseHashes.length) {
+            sparseHashes = Arrays.copyOf(sparseHashes, sparseHashes.length << 1);
+        }
+        sparseHashes[sparseSize++] = hash;
+    }
+    
+    private void convertToRegisters() {
+        registers = new byte[REGISTER_COUNT];
+        for (int i = 0; i < sparseSize; i++) {
+            addToRegisters(sparseHashes[i]);
+        }
+        sparseHashes = null;
+        sparseSize = 0;
+    }
+    
+    private void addToRegisters(final long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        byte rank = (byte) (Long.numberOfLeadingZeros(hash << PRECISION | 1L << (PRECISION - 1)) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+    
+    /**
+     * Merge other sketch into this sketch.
+     *
+     * @param other other sketch
+     */
+    public void merge(final HyperLogLog other) {
+        if (null == other.registers) {
+            for (int i = 0; i < other.sparseSize; i++) {
+                add(other.sparseHashes[i]);
+            }
+            return;
+        }
+        if (null == registers) {
+            convertToRegisters();
+        }
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+    
+    /**
+     * Estimate distinct count.
+     *
+     * @return estimated distinct count
+     */
+    public long estimate() {
+        if (null == registers) {
+            return sparseSize;
+        }
+        double sum = 0D;
+        int zeroRegisterCount = 0;
+        for (byte each : registers) {
+            sum += 1D / (1L << each);
+            if (0 == each) {
+                zeroRegisterCount++;
+            }
+        }
+        double result = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (result <= 2.5D * REGISTER_COUNT && zeroRegisterCount > 0) {
+            result = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeroRegisterCount);
+        }
+        return Math.round(result);
+    }
+}
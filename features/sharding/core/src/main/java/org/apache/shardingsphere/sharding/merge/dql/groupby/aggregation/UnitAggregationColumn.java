@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+
+import java.util.Arrays;
+
+/**
+ * Aggregation column backed by aggregation units, used for aggregations which can not be kept in primitive columns.
+ */
+@RequiredArgsConstructor
+public final class UnitAggregationColumn implements AggregationColumn {
+    
+    private static final int DEFAULT_CAPACITY = 1024;
+    
+    private final AggregationType type;
+    
+    private final boolean isDistinct;
+    
+    private final boolean isApproximateDistinctCount;
+    
+    private AggregationUnit[] units = new AggregationUnit[DEFAULT_CAPACITY];
+    
+    public UnitAggregationColumn(final AggregationType type, final boolean isDistinct) {
+        this(type, isDistinct, false);
+    }
+    
+    @Override
+    public void merge(final int groupIndex, final Comparable<?>[] values) {
+        if (groupIndex >= units.length) {
+            units = Arrays.copyOf(units, Math.max(groupIndex + 1, units.length << 1));
+        }
+        if (null == units[groupIndex]) {
+            units[groupIndex] = AggregationUnitFactory.create(type, isDistinct, isApproximateDistinctCount);
+        }
+        units[groupIndex].merge(Arrays.asList(values.clone()));
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupIndex) {
+        return groupIndex < units.length && null != units[groupIndex] ? units[groupIndex].getResult() : null;
+    }
+}
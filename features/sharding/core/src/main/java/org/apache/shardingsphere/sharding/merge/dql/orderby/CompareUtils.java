@@ -22,6 +22,9 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
 import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
 
+import java.sql.Timestamp;
+import java.util.Date;
+
 /**
  * Compare utility class.
  */
@@ -53,9 +56,25 @@ public final class CompareUtils {
         if (!caseSensitive && thisValue instanceof String && otherValue instanceof String) {
             return compareToCaseInsensitiveString((String) thisValue, (String) otherValue, orderDirection);
         }
+        if (isIntegral(thisValue) && isIntegral(otherValue)) {
+            int result = Long.compare(((Number) thisValue).longValue(), ((Number) otherValue).longValue());
+            return OrderDirection.ASC == orderDirection ? result : -result;
+        }
+        if (isMillisecondsPrecisionDate(thisValue) && isMillisecondsPrecisionDate(otherValue)) {
+            int result = Long.compare(((Date) thisValue).getTime(), ((Date) otherValue).getTime());
+            return OrderDirection.ASC == orderDirection ? result : -result;
+        }
         return OrderDirection.ASC == orderDirection ? thisValue.compareTo(otherValue) : -thisValue.compareTo(otherValue);
     }
     
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private static boolean isMillisecondsPrecisionDate(final Object value) {
+        return value instanceof Date && !(value instanceof Timestamp);
+    }
+    
     private static int compareToCaseInsensitiveString(final String thisValue, final String otherValue, final OrderDirection orderDirection) {
         int result = thisValue.toUpperCase().compareTo(otherValue.toUpperCase());
         return OrderDirection.ASC == orderDirection ? result : -result;
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ *
+ * <p>
+ * Tournament tree for k-way merge, every internal node keeps the loser of its sub tree and the root keeps the winner, which is the order by value with the smallest current row.
+ * Advancing the winner replays only the matches on the path from its leaf to the root, costing log(k) comparisons.
+ * Exhausted order by values lose every match, order by values with equal rows are ordered by their positions to keep the merge stable.
+ * </p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private static final int NONE = -1;
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    private int remaining;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[this.orderByValues.length];
+        losers = new int[Math.max(this.orderByValues.length, 1)];
+        remaining = this.orderByValues.length;
+        Arrays.fill(losers, NONE);
+        for (int i = this.orderByValues.length - 1; i >= 0; i--) {
+            replay(i);
+        }
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == remaining;
+    }
+    
+    /**
+     * Get winner order by value.
+     *
+     * @return order by value with the smallest current row
+     */
+    public OrderByValue peek() {
+        return orderByValues[losers[0]];
+    }
+    
+    /**
+     * Iterate winner order by value to next data and choose new winner.
+     *
+     * @return has next data in any order by value
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        int winner = losers[0];
+        if (!orderByValues[winner].next()) {
+            exhausted[winner] = true;
+            remaining--;
+        }
+        replay(winner);
+        return !isEmpty();
+    }
+    
+    private void replay(final int index) {
+        int winner = index;
+        for (int parent = (index + orderByValues.length) >> 1; parent > 0; parent >>= 1) {
+            if (isLoser(winner, losers[parent])) {
+                int loser = winner;
+                winner = losers[parent];
+                losers[parent] = loser;
+            }
+        }
+        losers[0] = winner;
+    }
+    
+    private boolean isLoser(final int index, final int opponent) {
+        if (NONE == index) {
+            return false;
+        }
+        if (NONE == opponent) {
+            return true;
+        }
+        if (exhausted[index] || exhausted[opponent]) {
+            return exhausted[index] && (!exhausted[opponent] || index > opponent);
+        }
+        int result = orderByValues[index].compareTo(orderByValues[opponent]);
+        return result > 0 || 0 == result && index > opponent;
+    }
+}
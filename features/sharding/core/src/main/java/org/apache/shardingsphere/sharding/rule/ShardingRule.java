@@ -588,6 +588,17 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return getKeyGenerateAlgorithm(logicTableName).generateKey();
     }
     
+    /**
+     * Generate keys of logic table.
+     *
+     * @param logicTableName logic table name
+     * @param keyGenerateCount key generate count
+     * @return generated keys
+     */
+    public Collection<? extends Comparable<?>> generateKeys(final String logicTableName, final int keyGenerateCount) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKeys(keyGenerateCount);
+    }
+    
     private KeyGenerateAlgorithm getKeyGenerateAlgorithm(final String logicTableName) {
         Optional<TableRule> tableRule = findTableRule(logicTableName);
         ShardingSpherePreconditions.checkState(tableRule.isPresent(), () -> new GenerateKeyStrategyNotFoundException(logicTableName));
@@ -39,7 +39,9 @@ import org.mockito.internal.configuration.plugins.Plugins;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
@@ -47,6 +49,8 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -58,8 +62,12 @@ class SnowflakeKeyGenerateAlgorithmTest {
     
     private static final long DEFAULT_SEQUENCE_BITS = 12L;
     
+    private static final long DEFAULT_SEQUENCE_MASK = (1L << DEFAULT_SEQUENCE_BITS) - 1L;
+    
     private static final int DEFAULT_KEY_AMOUNT = 10;
     
+    private static final int DEFAULT_BATCH_KEY_AMOUNT = 1000;
+    
     private static final InstanceContext INSTANCE;
     
     static {
@@ -189,14 +197,56 @@ class SnowflakeKeyGenerateAlgorithmTest {
         assertThat(actual, is(expected));
     }
     
-    @SneakyThrows(ReflectiveOperationException.class)
-    private void setLastMilliseconds(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMilliseconds"), algorithm, value);
+    @Test
+    void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(2));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        if (algorithm instanceof InstanceContextAware) {
+            ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
+        }
+        List<Comparable<?>> actual = new ArrayList<>(algorithm.generateKeys(5000));
+        assertThat(actual.size(), is(5000));
+        assertThat(new HashSet<>(actual).size(), is(5000));
+        assertThat(actual.get(0), is(0L));
+        assertThat(actual.get(4095), is(4095L));
+        assertThat(actual.get(4096), is(4194304L));
+        assertThat(actual.get(4999), is(4194304L + 903L));
+    }
+    
+    @Test
+    void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        if (algorithm instanceof InstanceContextAware) {
+            ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
+        }
+        Collection<Future<Collection<? extends Comparable<?>>>> futures = new LinkedList<>();
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(() -> algorithm.generateKeys(DEFAULT_BATCH_KEY_AMOUNT)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(threadNumber * DEFAULT_BATCH_KEY_AMOUNT, 1);
+        for (Future<Collection<? extends Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * DEFAULT_BATCH_KEY_AMOUNT));
+    }
+    
+    private void setLastMilliseconds(final KeyGenerateAlgorithm algorithm, final long value) {
+        AtomicLong state = getState(algorithm);
+        state.set(value << DEFAULT_SEQUENCE_BITS | state.get() & DEFAULT_SEQUENCE_MASK);
+    }
+    
+    private void setSequence(final KeyGenerateAlgorithm algorithm, final long value) {
+        AtomicLong state = getState(algorithm);
+        state.set(state.get() & ~DEFAULT_SEQUENCE_MASK | value);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setSequence(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence"), algorithm, value);
+    private AtomicLong getState(final KeyGenerateAlgorithm algorithm) {
+        return (AtomicLong) Plugins.getMemberAccessor().get(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("state"), algorithm);
     }
     
     @Test
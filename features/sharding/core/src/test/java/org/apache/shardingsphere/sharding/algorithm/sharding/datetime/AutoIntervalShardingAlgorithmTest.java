@@ -149,4 +149,19 @@ class AutoIntervalShardingAlgorithmTest {
                 new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closed("2020-01-01 00:00:11.123", "2020-01-01 00:00:21.123")));
         assertThat(actualWithThreeMilliseconds.size(), is(11));
     }
+    
+    @Test
+    void assertPreciseDoShardingOnPartitionBoundary() {
+        AutoIntervalShardingAlgorithm dailyShardingAlgorithm = (AutoIntervalShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "AUTO_INTERVAL",
+                PropertiesBuilder.build(new Property("datetime-lower", "2020-01-01 00:00:00"), new Property("datetime-upper", "2020-01-10 00:00:00"), new Property("sharding-seconds", "86400")));
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3", "t_order_4", "t_order_5");
+        assertThat(dailyShardingAlgorithm.doSharding(availableTargetNames,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2020-01-02 00:07:12")), is("t_order_1"));
+        assertThat(dailyShardingAlgorithm.doSharding(availableTargetNames,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2020-01-02 00:07:13")), is("t_order_2"));
+        assertThat(dailyShardingAlgorithm.doSharding(availableTargetNames,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2020-01-03 00:07:12")), is("t_order_2"));
+        assertThat(dailyShardingAlgorithm.doSharding(availableTargetNames,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2020-01-03 00:07:13")), is("t_order_3"));
+    }
 }
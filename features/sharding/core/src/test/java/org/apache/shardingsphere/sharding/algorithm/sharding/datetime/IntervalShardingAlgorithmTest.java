@@ -50,6 +50,7 @@ import java.util.Properties;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class IntervalShardingAlgorithmTest {
     
@@ -320,6 +321,72 @@ class IntervalShardingAlgorithmTest {
         assertThat(actual.size(), is(24));
     }
     
+    @Test
+    void assertDoShardingByHourInMultipleYears() {
+        Properties props = PropertiesBuilder.build(
+                new Property("datetime-pattern", "yyyy-MM-dd HH:mm:ss"),
+                new Property("datetime-lower", "2016-01-01 00:00:00"),
+                new Property("datetime-upper", "2021-12-31 23:00:00"),
+                new Property("sharding-suffix-pattern", "yyyyMMddHH"),
+                new Property("datetime-interval-unit", "Hours"));
+        IntervalShardingAlgorithm shardingAlgorithm = (IntervalShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "INTERVAL", props);
+        Collection<String> availableTargetNames = new LinkedList<>();
+        for (LocalDateTime each = LocalDateTime.of(2016, 1, 1, 0, 0); !each.isAfter(LocalDateTime.of(2021, 12, 31, 23, 0)); each = each.plusHours(1L)) {
+            availableTargetNames.add("t_order_" + each.format(DateTimeFormatter.ofPattern("yyyyMMddHH")));
+        }
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2019-06-15 13:59:59")), is("t_order_2019061513"));
+        assertNull(shardingAlgorithm.doSharding(availableTargetNames,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2022-01-01 00:00:00")));
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closedOpen("2019-06-15 13:00:00", "2019-06-16 13:00:00")));
+        assertThat(actual.size(), is(24));
+        assertTrue(actual.contains("t_order_2019061513"));
+        assertTrue(actual.contains("t_order_2019061612") && !actual.contains("t_order_2019061613"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.atLeast("2021-12-31 22:30:00"))).size(), is(2));
+    }
+    
+    @Test
+    void assertDoShardingByMonthFromEndOfMonth() {
+        Properties props = PropertiesBuilder.build(
+                new Property("datetime-pattern", "yyyy-MM-dd HH:mm:ss"),
+                new Property("datetime-lower", "2020-01-31 00:00:00"),
+                new Property("datetime-upper", "2020-12-31 00:00:00"),
+                new Property("sharding-suffix-pattern", "yyyyMMdd"),
+                new Property("datetime-interval-unit", "Months"));
+        IntervalShardingAlgorithm shardingAlgorithm = (IntervalShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "INTERVAL", props);
+        Collection<String> availableTargetNames = new LinkedList<>();
+        for (LocalDateTime each = LocalDateTime.of(2020, 1, 31, 0, 0); !each.isAfter(LocalDateTime.of(2020, 12, 31, 0, 0)); each = each.plusMonths(1L)) {
+            availableTargetNames.add("t_order_" + each.format(DateTimeFormatter.ofPattern("yyyyMMdd")));
+        }
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2020-03-30 00:00:00")), is("t_order_20200329"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2020-03-28 23:59:59")), is("t_order_20200229"));
+    }
+    
+    @Test
+    void assertDoShardingByMonthBeyondListedIntervalLimit() {
+        Properties props = PropertiesBuilder.build(
+                new Property("datetime-pattern", "yyyy-MM-dd HH:mm:ss"),
+                new Property("datetime-lower", "0001-01-01 00:00:00"),
+                new Property("datetime-upper", "9999-12-01 00:00:00"),
+                new Property("sharding-suffix-pattern", "yyyyMM"),
+                new Property("datetime-interval-unit", "Months"));
+        IntervalShardingAlgorithm shardingAlgorithm = (IntervalShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "INTERVAL", props);
+        Collection<String> availableTargetNames = new LinkedList<>();
+        for (int month = 1; month <= 12; month++) {
+            availableTargetNames.add(String.format("t_order_2023%02d", month));
+        }
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames,
+                new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2023-06-15 13:59:59")), is("t_order_202306"));
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closedOpen("2023-06-15 00:00:00", "2023-08-01 00:00:00")));
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.contains("t_order_202306") && actual.contains("t_order_202307"));
+    }
+    
     @Test
     void assertFormat() {
         String inputFormat = "yyyy-MM-dd HH:mm:ss.SSS";
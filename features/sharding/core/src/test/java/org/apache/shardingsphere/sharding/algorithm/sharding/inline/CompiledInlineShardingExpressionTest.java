@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledInlineShardingExpressionTest {
+    
+    @Test
+    void assertEvaluateWithModulo() {
+        CompiledInlineShardingExpression expression = new CompiledInlineShardingExpression("t_order_${order_id % 16}");
+        assertThat(expression.evaluate("order_id", 17), is("t_order_1"));
+        assertThat(expression.evaluate("order_id", 787694822390497281L), is("t_order_1"));
+        assertThat(expression.evaluate("order_id", -1), is("t_order_-1"));
+        assertThat(expression.evaluate("order_id", new BigInteger("787694822390497280787694822390497281")), is("t_order_1"));
+    }
+    
+    @Test
+    void assertEvaluateWithArrowPlaceHolder() throws ReflectiveOperationException {
+        CompiledInlineShardingExpression expression = new CompiledInlineShardingExpression("t_order_$->{order_id % 2}");
+        assertTrue((boolean) Plugins.getMemberAccessor().get(CompiledInlineShardingExpression.class.getDeclaredField("simple"), expression));
+        assertThat(expression.evaluate("order_id", 3), is("t_order_1"));
+    }
+    
+    @Test
+    void assertEvaluateWithPlainValue() {
+        CompiledInlineShardingExpression expression = new CompiledInlineShardingExpression("t_order_${order_id}_suffix");
+        assertThat(expression.evaluate("order_id", 5), is("t_order_5_suffix"));
+        assertThat(expression.evaluate("order_id", "foo"), is("t_order_foo_suffix"));
+    }
+    
+    @Test
+    void assertEvaluateWithGroovyExpression() {
+        CompiledInlineShardingExpression expression = new CompiledInlineShardingExpression("t_order_${(order_id % 4).abs()}");
+        assertThat(expression.evaluate("order_id", -1), is("t_order_1"));
+    }
+    
+    @Test
+    void assertEvaluateWithMultipleColumns() {
+        CompiledInlineShardingExpression expression = new CompiledInlineShardingExpression("t_order_${type % 2}_${order_id % 2}");
+        Map<String, Comparable<?>> columnValues = new LinkedHashMap<>(2, 1F);
+        columnValues.put("type", 1);
+        columnValues.put("order_id", 2);
+        assertThat(expression.evaluate(columnValues), is("t_order_1_0"));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class GroupByHashTableTest {
+    
+    @Test
+    void assertFindOrInsert() {
+        GroupByHashTable hashTable = new GroupByHashTable(2);
+        assertThat(hashTable.findOrInsert(new Object[]{1, "foo"}), is(0));
+        assertThat(hashTable.findOrInsert(new Object[]{1, "bar"}), is(1));
+        assertThat(hashTable.findOrInsert(new Object[]{null, "foo"}), is(2));
+        assertThat(hashTable.findOrInsert(new Object[]{1, "foo"}), is(0));
+        assertThat(hashTable.findOrInsert(new Object[]{null, "foo"}), is(2));
+        assertThat(hashTable.size(), is(3));
+        assertThat(hashTable.getKeyValue(1, 1), is("bar"));
+    }
+    
+    @Test
+    void assertFindOrInsertWithResize() {
+        GroupByHashTable hashTable = new GroupByHashTable(1);
+        for (int i = 0; i < 10000; i++) {
+            assertThat(hashTable.findOrInsert(new Object[]{i}), is(i));
+        }
+        for (int i = 0; i < 10000; i++) {
+            assertThat(hashTable.findOrInsert(new Object[]{i}), is(i));
+        }
+        assertThat(hashTable.size(), is(10000));
+        assertThat(hashTable.getKeyValue(9999, 0), is(9999));
+    }
+}
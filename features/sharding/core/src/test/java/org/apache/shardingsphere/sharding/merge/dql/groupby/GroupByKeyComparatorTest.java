@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class GroupByKeyComparatorTest {
+    
+    private final GroupByKeyComparator comparator = new GroupByKeyComparator(Arrays.asList(createOrderByItem(1), createOrderByItem(2)));
+    
+    @Test
+    void assertCompareEqualKeys() {
+        assertThat(comparator.compare(new MemoryQueryResultRow(new Object[]{1, "foo", 10}), new MemoryQueryResultRow(new Object[]{1, "foo", 20})), is(0));
+        assertThat(comparator.compare(new MemoryQueryResultRow(new Object[]{null, "foo", 10}), new MemoryQueryResultRow(new Object[]{null, "foo", 20})), is(0));
+    }
+    
+    @Test
+    void assertCompareDifferentKeys() {
+        assertThat(comparator.compare(new MemoryQueryResultRow(new Object[]{1, "foo", 10}), new MemoryQueryResultRow(new Object[]{1, "bar", 10})) > 0, is(true));
+        assertThat(comparator.compare(new MemoryQueryResultRow(new Object[]{null, "foo", 10}), new MemoryQueryResultRow(new Object[]{1, "foo", 10})) < 0, is(true));
+        assertThat(comparator.compare(new MemoryQueryResultRow(new Object[]{1, "foo", 10}), new MemoryQueryResultRow(new Object[]{1L, "foo", 10})) < 0, is(true));
+    }
+    
+    @Test
+    void assertCompareUnequalKeysWithEqualComparedValues() {
+        MemoryQueryResultRow row1 = new MemoryQueryResultRow(new Object[]{new BigDecimal("1.0"), "foo", 10});
+        MemoryQueryResultRow row2 = new MemoryQueryResultRow(new Object[]{new BigDecimal("1.00"), "foo", 10});
+        assertThat(Integer.signum(comparator.compare(row1, row2)), is(-Integer.signum(comparator.compare(row2, row1))));
+        assertThat(0 == comparator.compare(row1, row2), is(false));
+    }
+    
+    private OrderByItem createOrderByItem(final int index) {
+        OrderByItem result = new OrderByItem(new IndexOrderByItemSegment(0, 0, index, OrderDirection.ASC, NullsOrderType.FIRST));
+        result.setIndex(index);
+        return result;
+    }
+}
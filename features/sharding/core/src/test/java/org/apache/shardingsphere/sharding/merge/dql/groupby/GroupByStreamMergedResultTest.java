@@ -53,6 +53,7 @@ import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -120,12 +121,13 @@ class GroupByStreamMergedResultTest {
         when(queryResult1.getValue(5, Object.class)).thenReturn(2);
         when(queryResult1.getValue(6, Object.class)).thenReturn(20);
         QueryResult queryResult2 = mockQueryResult();
-        when(queryResult2.next()).thenReturn(true, true, true, false);
-        when(queryResult2.getValue(1, Object.class)).thenReturn(20, 30, 40);
+        AtomicInteger queryResult2RowIndex = new AtomicInteger(-1);
+        when(queryResult2.next()).thenAnswer(invocation -> queryResult2RowIndex.incrementAndGet() < 3);
+        when(queryResult2.getValue(1, Object.class)).thenAnswer(invocation -> Arrays.asList(20, 30, 40).get(queryResult2RowIndex.get()));
         when(queryResult2.getValue(2, Object.class)).thenReturn(0);
-        when(queryResult2.getValue(3, Object.class)).thenReturn(2, 2, 3, 3, 3, 4);
-        when(queryResult2.getValue(5, Object.class)).thenReturn(2, 2, 3, 3, 3, 4);
-        when(queryResult2.getValue(6, Object.class)).thenReturn(20, 20, 30, 30, 30, 40);
+        when(queryResult2.getValue(3, Object.class)).thenAnswer(invocation -> Arrays.asList(2, 3, 4).get(queryResult2RowIndex.get()));
+        when(queryResult2.getValue(5, Object.class)).thenAnswer(invocation -> Arrays.asList(2, 3, 4).get(queryResult2RowIndex.get()));
+        when(queryResult2.getValue(6, Object.class)).thenAnswer(invocation -> Arrays.asList(20, 30, 40).get(queryResult2RowIndex.get()));
         QueryResult queryResult3 = mockQueryResult();
         when(queryResult3.next()).thenReturn(true, true, false);
         when(queryResult3.getValue(1, Object.class)).thenReturn(10, 30);
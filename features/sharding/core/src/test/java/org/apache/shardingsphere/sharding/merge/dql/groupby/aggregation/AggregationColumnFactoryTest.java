@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class AggregationColumnFactoryTest {
+    
+    @Test
+    void assertCreateComparableAggregationColumn() {
+        assertThat(AggregationColumnFactory.create(AggregationType.MIN, false), instanceOf(ComparableAggregationColumn.class));
+        assertThat(AggregationColumnFactory.create(AggregationType.MAX, false), instanceOf(ComparableAggregationColumn.class));
+    }
+    
+    @Test
+    void assertCreateAccumulationAggregationColumn() {
+        assertThat(AggregationColumnFactory.create(AggregationType.SUM, false), instanceOf(AccumulationAggregationColumn.class));
+        assertThat(AggregationColumnFactory.create(AggregationType.COUNT, false), instanceOf(AccumulationAggregationColumn.class));
+    }
+    
+    @Test
+    void assertCreateAverageAggregationColumn() {
+        assertThat(AggregationColumnFactory.create(AggregationType.AVG, false), instanceOf(AverageAggregationColumn.class));
+    }
+    
+    @Test
+    void assertCreateUnitAggregationColumn() {
+        assertThat(AggregationColumnFactory.create(AggregationType.COUNT, true), instanceOf(UnitAggregationColumn.class));
+        assertThat(AggregationColumnFactory.create(AggregationType.AVG, true), instanceOf(UnitAggregationColumn.class));
+        assertThat(AggregationColumnFactory.create(AggregationType.BIT_XOR, false), instanceOf(UnitAggregationColumn.class));
+    }
+    
+    @Test
+    void assertCreateApproximateDistinctCountAggregationColumn() {
+        AggregationColumn aggregationColumn = AggregationColumnFactory.create(AggregationType.COUNT, true, true);
+        for (int i = 0; i < 10; i++) {
+            aggregationColumn.merge(0, new Comparable<?>[]{i % 5});
+        }
+        assertThat(aggregationColumn.getResult(0), is(5L));
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AverageAggregationColumnTest {
+    
+    @Test
+    void assertAverageAggregation() {
+        AverageAggregationColumn column = new AverageAggregationColumn();
+        column.merge(0, new Comparable<?>[]{null, 10});
+        column.merge(0, new Comparable<?>[]{2, 10});
+        column.merge(0, new Comparable<?>[]{3, 20});
+        column.merge(1, new Comparable<?>[]{0, 0});
+        assertThat(column.getResult(0), is(new BigDecimal("6.0000")));
+        assertThat(column.getResult(1), is(BigDecimal.ZERO));
+        assertNull(column.getResult(2));
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ComparableAggregationColumnTest {
+    
+    @Test
+    void assertComparableAggregationForAsc() {
+        ComparableAggregationColumn column = new ComparableAggregationColumn(true);
+        column.merge(0, new Comparable<?>[]{null});
+        column.merge(0, new Comparable<?>[]{1});
+        column.merge(0, new Comparable<?>[]{10});
+        column.merge(1, new Comparable<?>[]{5});
+        assertThat(column.getResult(0), is(1));
+        assertThat(column.getResult(1), is(5));
+    }
+    
+    @Test
+    void assertComparableAggregationForDesc() {
+        ComparableAggregationColumn column = new ComparableAggregationColumn(false);
+        column.merge(0, new Comparable<?>[]{1});
+        column.merge(0, new Comparable<?>[]{10});
+        column.merge(0, new Comparable<?>[]{5});
+        assertThat(column.getResult(0), is(10));
+    }
+}
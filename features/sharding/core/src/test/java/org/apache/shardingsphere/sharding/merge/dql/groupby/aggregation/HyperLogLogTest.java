@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+class HyperLogLogTest {
+    
+    @Test
+    void assertEstimateEmpty() {
+        assertThat(new HyperLogLog().estimate(), is(0L));
+    }
+    
+    @Test
+    void assertEstimateExactlyWithFewHashes() {
+        HyperLogLog hyperLogLog = new HyperLogLog();
+        for (int i = 0; i < 200; i++) {
+            hyperLogLog.add(i % 100);
+        }
+        assertThat(hyperLogLog.estimate(), is(100L));
+    }
+    
+    @Test
+    void assertEstimateWithManyHashes() {
+        HyperLogLog hyperLogLog = new HyperLogLog();
+        Random random = new Random(0L);
+        for (int i = 0; i < 1000000; i++) {
+            hyperLogLog.add(random.nextLong());
+        }
+        assertThat(Math.abs(hyperLogLog.estimate() - 1000000L), lessThan(30000L));
+    }
+    
+    @Test
+    void assertMerge() {
+        HyperLogLog hyperLogLog1 = new HyperLogLog();
+        HyperLogLog hyperLogLog2 = new HyperLogLog();
+        Random random = new Random(0L);
+        long[] hashes = new long[100000];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = random.nextLong();
+            hyperLogLog1.add(hashes[i]);
+        }
+        for (int i = 50000; i < hashes.length; i++) {
+            hyperLogLog2.add(hashes[i]);
+        }
+        hyperLogLog2.add(1L);
+        hyperLogLog1.merge(hyperLogLog2);
+        assertThat(Math.abs(hyperLogLog1.estimate() - 100001L), lessThan(3000L));
+    }
+}
@@ -21,6 +21,10 @@ import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
 import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Date;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -92,4 +96,16 @@ class CompareUtilsTest {
     void assetCompareToStringWithCaseInsensitive() {
         assertThat(CompareUtils.compareTo("A", "a", OrderDirection.DESC, NullsOrderType.FIRST, !caseSensitive), is(0));
     }
+    
+    @Test
+    void assertCompareToWithDifferentIntegralTypes() {
+        assertThat(CompareUtils.compareTo(1, 2L, OrderDirection.ASC, NullsOrderType.FIRST, caseSensitive), is(-1));
+        assertThat(CompareUtils.compareTo((short) 3, 2L, OrderDirection.DESC, NullsOrderType.FIRST, caseSensitive), is(-1));
+    }
+    
+    @Test
+    void assertCompareToWithDates() {
+        assertThat(CompareUtils.compareTo(new Date(1000L), new Time(2000L), OrderDirection.ASC, NullsOrderType.FIRST, caseSensitive), is(-1));
+        assertThat(CompareUtils.compareTo(new Timestamp(1000L), new Timestamp(1000L), OrderDirection.DESC, NullsOrderType.FIRST, caseSensitive), is(0));
+    }
 }
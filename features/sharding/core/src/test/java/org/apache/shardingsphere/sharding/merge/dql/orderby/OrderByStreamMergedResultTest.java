@@ -57,6 +57,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class OrderByStreamMergedResultTest {
@@ -197,10 +199,32 @@ class OrderByStreamMergedResultTest {
         assertTrue(actual.next());
         assertThat(actual.getValue(2, Object.class).toString(), is("A"));
         assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class).toString(), is("b"));
+        assertTrue(actual.next());
         assertThat(actual.getValue(2, Object.class).toString(), is("B"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithMaxRowCount() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(mock(QueryResult.class), mock(QueryResult.class));
+        for (int i = 0; i < 2; i++) {
+            QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+            when(queryResults.get(i).getMetaData()).thenReturn(metaData);
+            when(metaData.getColumnName(1)).thenReturn("col1");
+            when(metaData.getColumnName(2)).thenReturn("col2");
+        }
+        when(queryResults.get(0).next()).thenReturn(true, true, false);
+        when(queryResults.get(0).getValue(1, Object.class)).thenReturn(1, 1, 3, 3);
+        when(queryResults.get(1).next()).thenReturn(true, true, false);
+        when(queryResults.get(1).getValue(1, Object.class)).thenReturn(2L, 2L, 4L, 4L);
+        OrderByStreamMergedResult actual = new OrderByStreamMergedResult(queryResults, selectStatementContext, createDatabase().getSchema(DefaultDatabase.LOGIC_NAME), 2L);
         assertTrue(actual.next());
-        assertThat(actual.getValue(2, Object.class).toString(), is("b"));
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2L));
         assertFalse(actual.next());
+        verify(queryResults.get(1), times(1)).next();
     }
     
     private ShardingSphereDatabase createDatabase() {
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderByValueLoserTreeTest {
+    
+    @Test
+    void assertEmpty() {
+        assertTrue(new OrderByValueLoserTree(Collections.emptyList()).isEmpty());
+    }
+    
+    @Test
+    void assertNextWithSingleOrderByValue() throws SQLException {
+        assertThat(merge(Collections.singletonList(Arrays.asList(1, 2))), is(Arrays.asList(1, 2)));
+    }
+    
+    @Test
+    void assertNextWithMultipleOrderByValues() throws SQLException {
+        List<List<Integer>> rows = Arrays.asList(Arrays.asList(1, 4, 7), Arrays.asList(2, 2, 9), Arrays.asList(3, 5), Arrays.asList(0, 6, 8, 10), Collections.singletonList(5));
+        assertThat(merge(rows), is(Arrays.asList(0, 1, 2, 2, 3, 4, 5, 5, 6, 7, 8, 9, 10)));
+    }
+    
+    @Test
+    void assertNextWithEqualValuesInPositionOrder() throws SQLException {
+        List<List<Integer>> rows = Arrays.asList(Collections.singletonList(1), Collections.singletonList(1), Collections.singletonList(1));
+        List<OrderByValue> orderByValues = createOrderByValues(rows);
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(orderByValues);
+        for (OrderByValue each : orderByValues) {
+            assertThat(actual.peek(), is(each));
+            actual.next();
+        }
+        assertTrue(actual.isEmpty());
+    }
+    
+    private List<Integer> merge(final List<List<Integer>> rows) throws SQLException {
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(createOrderByValues(rows));
+        List<Integer> result = new ArrayList<>();
+        assertFalse(loserTree.isEmpty());
+        do {
+            result.add((Integer) loserTree.peek().getQueryResult().getValue(1, Object.class));
+        } while (loserTree.next());
+        return result;
+    }
+    
+    private List<OrderByValue> createOrderByValues(final List<List<Integer>> rows) throws SQLException {
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST));
+        orderByItem.setIndex(1);
+        Collection<OrderByItem> orderByItems = Collections.singletonList(orderByItem);
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        List<OrderByValue> result = new ArrayList<>(rows.size());
+        for (List<Integer> each : rows) {
+            OrderByValue orderByValue = new OrderByValue(createQueryResult(each), orderByItems, selectStatementContext, mock(ShardingSphereSchema.class));
+            assertTrue(orderByValue.next());
+            result.add(orderByValue);
+        }
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final List<Integer> rows) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        Iterator<Integer> iterator = rows.iterator();
+        Object[] currentValue = new Object[1];
+        when(result.next()).thenAnswer(invocation -> {
+            currentValue[0] = iterator.hasNext() ? iterator.next() : null;
+            return null != currentValue[0];
+        });
+        when(result.getValue(1, Object.class)).thenAnswer(invocation -> currentValue[0]);
+        return result;
+    }
+}
@@ -52,11 +52,32 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether execute queries in completion order, results of execution groups are merged in the order they finish instead of the order they are submitted.
+     */
+    KERNEL_EXECUTOR_COMPLETION_ORDERED_ENABLED("kernel-executor-completion-ordered-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Timeout milliseconds of queries executed in completion order, unfinished execution groups are cancelled after timeout. Less than or equal to 0 means no timeout.
+     */
+    KERNEL_EXECUTOR_QUERY_TIMEOUT_MILLISECONDS("kernel-executor-query-timeout-milliseconds", String.valueOf(0), long.class, false),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Memory quota bytes of groups merged in memory for each query, partially aggregated groups exceeding the quota are spilled to temporary files and combined afterwards.
+     * Queries with distinct aggregations are never spilled. Less than or equal to 0 means no quota.
+     */
+    MERGE_MEMORY_QUOTA_BYTES("merge-memory-quota-bytes", String.valueOf(0), long.class, false),
+    
+    /**
+     * Whether merge COUNT(DISTINCT) approximately with HyperLogLog sketches, memory of each group is bounded with about 0.81% standard error.
+     */
+    MERGE_APPROXIMATE_DISTINCT_COUNT_ENABLED("merge-approximate-distinct-count-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Whether validate table meta data consistency when application startup or updated.
      */
@@ -77,6 +98,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Flush threshold for pending bytes of records from databases for ShardingSphere-Proxy, capped by write buffer high water mark of frontend connections.
+     */
+    PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD("proxy-frontend-flush-bytes-threshold", String.valueOf(64 * 1024), int.class, false),
+    
+    /**
+     * Max interval milliseconds between flushes of records from databases for ShardingSphere-Proxy.
+     */
+    PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS("proxy-frontend-flush-interval-milliseconds", String.valueOf(10), long.class, false),
+    
     /**
      * Whether enable hint for ShardingSphere-Proxy.
      */
@@ -93,12 +124,26 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_EXECUTOR_SIZE("proxy-frontend-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Write buffer high water mark bytes of every frontend connection for ShardingSphere-Proxy, and the low water mark is half of it.
+     * Every connection may buffer outbound data up to this size before back pressure, so a larger value increases memory usage by connection count.
+     */
+    PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK("proxy-frontend-write-buffer-high-water-mark", String.valueOf(64 * 1024), int.class, true),
+    
     /**
      * Available options of proxy backend executor suitable: OLAP(default), OLTP. The OLTP option may reduce time cost of writing packets to client, but it may increase the latency of SQL execution
      * and block other clients if client connections are more than {@link ConfigurationPropertyKey#PROXY_FRONTEND_EXECUTOR_SIZE}, especially executing slow SQL.
      */
     PROXY_BACKEND_EXECUTOR_SUITABLE("proxy-backend-executor-suitable", BackendExecutorType.OLAP.name(), BackendExecutorType.class, false),
     
+    /**
+     * Whether run commands of connection which require the same thread on a dedicated virtual thread instead of a platform thread for ShardingSphere-Proxy.
+     * Only takes effect on JDK 21 or later, otherwise platform threads are used.
+     * Virtual threads are pinned to carrier threads while blocking inside synchronized blocks, such as getting connections from backend data source
+     * and monitor based JDBC drivers, which removes most of the benefit, so connections may still hold carrier threads while accessing databases.
+     */
+    PROXY_FRONTEND_CONNECTION_VIRTUAL_THREAD_ENABLED("proxy-frontend-connection-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Less than or equal to 0 means no limitation.
      */
@@ -124,6 +169,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_INSTANCE_TYPE("proxy-instance-type", "Proxy", String.class, true),
     
+    /**
+     * Whether parse text protocol DML with literals replaced by parameter markers for ShardingSphere-Proxy, SQL statements which only differ in literals share one cached SQL statement.
+     */
+    PROXY_SQL_LITERAL_PARAMETERIZED_ENABLED("proxy-sql-literal-parameterized-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * CDC server port.
      */
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Execution plan cache.
+ *
+ * <p>
+ * Caches rewritten SQL of one prepared statement by route units, so re-executions routed to the same data nodes skip SQL rewrite and only bind new parameters.
+ * Plans with rewritten parameters, such as encrypted or revised pagination parameters, are not cached because they depend on parameter values.
+ * </p>
+ */
+public final class ExecutionPlanCache {
+    
+    private static final int MAX_PLAN_COUNT = 64;
+    
+    private final Map<List<RouteUnit>, Collection<CachedExecutionUnit>> plans = new LinkedHashMap<List<RouteUnit>, Collection<CachedExecutionUnit>>(16, 0.75F, true) {
+        
+        @Override
+        protected boolean removeEldestEntry(final Entry<List<RouteUnit>, Collection<CachedExecutionUnit>> eldest) {
+            return size() > MAX_PLAN_COUNT;
+        }
+    };
+    
+    private ShardingSphereDatabase database;
+    
+    /**
+     * Find execution units from cached plan.
+     *
+     * @param database database
+     * @param routeContext route context
+     * @param params SQL parameters
+     * @return execution units bound with parameters
+     */
+    public Optional<Collection<ExecutionUnit>> find(final ShardingSphereDatabase database, final RouteContext routeContext, final List<Object> params) {
+        if (this.database != database) {
+            return Optional.empty();
+        }
+        Collection<CachedExecutionUnit> plan = plans.get(new ArrayList<>(routeContext.getRouteUnits()));
+        if (null == plan) {
+            return Optional.empty();
+        }
+        Collection<ExecutionUnit> result = new LinkedHashSet<>(plan.size(), 1F);
+        for (CachedExecutionUnit each : plan) {
+            result.add(each.bind(params));
+        }
+        return Optional.of(result);
+    }
+    
+    /**
+     * Put plan into cache.
+     *
+     * @param database database
+     * @param sqlStatementContext SQL statement context
+     * @param routeContext route context
+     * @param params SQL parameters
+     * @param rewriteResult SQL rewrite result
+     * @param executionUnits execution units built from SQL rewrite result
+     */
+    public void put(final ShardingSphereDatabase database, final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext, final List<Object> params,
+                    final SQLRewriteResult rewriteResult, final Collection<ExecutionUnit> executionUnits) {
+        if (!isCacheable(sqlStatementContext, routeContext, rewriteResult)) {
+            return;
+        }
+        Collection<CachedExecutionUnit> plan = new LinkedList<>();
+        for (ExecutionUnit each : executionUnits) {
+            Optional<CachedExecutionUnit> cachedExecutionUnit = createCachedExecutionUnit(each, params);
+            if (!cachedExecutionUnit.isPresent()) {
+                return;
+            }
+            plan.add(cachedExecutionUnit.get());
+        }
+        if (this.database != database) {
+            plans.clear();
+            this.database = database;
+        }
+        plans.put(new ArrayList<>(routeContext.getRouteUnits()), plan);
+    }
+    
+    private boolean isCacheable(final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
+        return !(sqlStatementContext instanceof InsertStatementContext) && !routeContext.getRouteUnits().isEmpty()
+                && rewriteResult instanceof RouteSQLRewriteResult && !((RouteSQLRewriteResult) rewriteResult).isParametersRewritten();
+    }
+    
+    private Optional<CachedExecutionUnit> createCachedExecutionUnit(final ExecutionUnit executionUnit, final List<Object> params) {
+        List<Object> unitParams = executionUnit.getSqlUnit().getParameters();
+        if (params.isEmpty()) {
+            return unitParams.isEmpty() ? Optional.of(new CachedExecutionUnit(executionUnit, 0)) : Optional.empty();
+        }
+        if (0 != unitParams.size() % params.size()) {
+            return Optional.empty();
+        }
+        int index = 0;
+        for (Object each : unitParams) {
+            if (each != params.get(index++ % params.size())) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new CachedExecutionUnit(executionUnit, unitParams.size() / params.size()));
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CachedExecutionUnit {
+        
+        private final ExecutionUnit executionUnit;
+        
+        private final int parameterRepeatTimes;
+        
+        private ExecutionUnit bind(final List<Object> params) {
+            List<Object> boundParams = new ArrayList<>(params.size() * parameterRepeatTimes);
+            for (int i = 0; i < parameterRepeatTimes; i++) {
+                boundParams.addAll(params);
+            }
+            SQLUnit sqlUnit = executionUnit.getSqlUnit();
+            return new ExecutionUnit(executionUnit.getDataSourceName(), new SQLUnit(sqlUnit.getSql(), boundParams, sqlUnit.getTableRouteMappers()));
+        }
+    }
+}
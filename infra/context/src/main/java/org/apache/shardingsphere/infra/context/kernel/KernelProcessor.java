@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
@@ -31,6 +32,9 @@ import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 
+import java.util.Collection;
+import java.util.Optional;
+
 /**
  * Kernel processor.
  */
@@ -55,6 +59,33 @@ public final class KernelProcessor {
         return result;
     }
     
+    /**
+     * Generate execution context with execution plan cache.
+     *
+     * @param queryContext query context
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @param connectionContext connection context
+     * @param executionPlanCache execution plan cache
+     * @return execution context
+     */
+    public ExecutionContext generateExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData,
+                                                     final ConfigurationProperties props, final ConnectionContext connectionContext, final ExecutionPlanCache executionPlanCache) {
+        RouteContext routeContext = route(queryContext, database, globalRuleMetaData, props, connectionContext);
+        Optional<Collection<ExecutionUnit>> cachedExecutionUnits = executionPlanCache.find(database, routeContext, queryContext.getParameters());
+        ExecutionContext result;
+        if (cachedExecutionUnits.isPresent()) {
+            result = new ExecutionContext(queryContext, cachedExecutionUnits.get(), routeContext);
+        } else {
+            SQLRewriteResult rewriteResult = rewrite(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext);
+            result = createExecutionContext(queryContext, database, routeContext, rewriteResult);
+            executionPlanCache.put(database, queryContext.getSqlStatementContext(), routeContext, queryContext.getParameters(), rewriteResult, result.getExecutionUnits());
+        }
+        logSQL(queryContext, props, result);
+        return result;
+    }
+    
     private RouteContext route(final QueryContext queryContext, final ShardingSphereDatabase database,
                                final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props, final ConnectionContext connectionContext) {
         return new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(connectionContext, queryContext, globalRuleMetaData, database);
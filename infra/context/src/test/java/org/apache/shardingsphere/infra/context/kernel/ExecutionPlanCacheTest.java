@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ExecutionPlanCacheTest {
+    
+    private final ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+    
+    @Test
+    void assertFindWithoutCachedPlan() {
+        assertFalse(new ExecutionPlanCache().find(database, createRouteContext("t_order_0"), Collections.singletonList(1)).isPresent());
+    }
+    
+    @Test
+    void assertFindWithCachedPlan() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache();
+        List<Object> params = Collections.singletonList(1);
+        executionPlanCache.put(database, mock(SelectStatementContext.class), createRouteContext("t_order_0"), params,
+                createRewriteResult(false), createExecutionUnits("SELECT * FROM t_order_0 WHERE order_id = ?", params));
+        Optional<Collection<ExecutionUnit>> actual = executionPlanCache.find(database, createRouteContext("t_order_0"), Collections.singletonList(2));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(1));
+        ExecutionUnit actualExecutionUnit = actual.get().iterator().next();
+        assertThat(actualExecutionUnit.getDataSourceName(), is("ds_0"));
+        assertThat(actualExecutionUnit.getSqlUnit().getSql(), is("SELECT * FROM t_order_0 WHERE order_id = ?"));
+        assertThat(actualExecutionUnit.getSqlUnit().getParameters(), is(Collections.<Object>singletonList(2)));
+        assertThat(actualExecutionUnit.getSqlUnit().getTableRouteMappers(), is(Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+    }
+    
+    @Test
+    void assertFindWithAggregatedParameters() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache();
+        List<Object> params = Collections.singletonList(1);
+        executionPlanCache.put(database, mock(SelectStatementContext.class), createRouteContext("t_order_0"), params,
+                createRewriteResult(false), createExecutionUnits("SELECT * FROM t_order_0 WHERE order_id = ? UNION ALL SELECT * FROM t_order_1 WHERE order_id = ?", Arrays.asList(1, 1)));
+        Optional<Collection<ExecutionUnit>> actual = executionPlanCache.find(database, createRouteContext("t_order_0"), Collections.singletonList(2));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().iterator().next().getSqlUnit().getParameters(), is(Arrays.<Object>asList(2, 2)));
+    }
+    
+    @Test
+    void assertFindWithAnotherRouteResult() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache();
+        List<Object> params = Collections.singletonList(1);
+        executionPlanCache.put(database, mock(SelectStatementContext.class), createRouteContext("t_order_0"), params,
+                createRewriteResult(false), createExecutionUnits("SELECT * FROM t_order_0 WHERE order_id = ?", params));
+        assertFalse(executionPlanCache.find(database, createRouteContext("t_order_1"), Collections.singletonList(2)).isPresent());
+    }
+    
+    @Test
+    void assertFindWithAnotherDatabase() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache();
+        List<Object> params = Collections.singletonList(1);
+        executionPlanCache.put(database, mock(SelectStatementContext.class), createRouteContext("t_order_0"), params,
+                createRewriteResult(false), createExecutionUnits("SELECT * FROM t_order_0 WHERE order_id = ?", params));
+        assertFalse(executionPlanCache.find(mock(ShardingSphereDatabase.class), createRouteContext("t_order_0"), Collections.singletonList(2)).isPresent());
+    }
+    
+    @Test
+    void assertPutWithRewrittenParameters() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache();
+        List<Object> params = Collections.singletonList(1);
+        executionPlanCache.put(database, mock(SelectStatementContext.class), createRouteContext("t_order_0"), params,
+                createRewriteResult(true), createExecutionUnits("SELECT * FROM t_order_0 WHERE order_id = ?", Collections.singletonList("encrypted")));
+        assertFalse(executionPlanCache.find(database, createRouteContext("t_order_0"), Collections.singletonList(2)).isPresent());
+    }
+    
+    @Test
+    void assertPutWithInsertStatement() {
+        ExecutionPlanCache executionPlanCache = new ExecutionPlanCache();
+        List<Object> params = Collections.singletonList(1);
+        executionPlanCache.put(database, mock(InsertStatementContext.class), createRouteContext("t_order_0"), params,
+                createRewriteResult(false), createExecutionUnits("INSERT INTO t_order_0 (order_id) VALUES (?)", params));
+        assertFalse(executionPlanCache.find(database, createRouteContext("t_order_0"), Collections.singletonList(2)).isPresent());
+    }
+    
+    private RouteContext createRouteContext(final String actualTableName) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("t_order", actualTableName))));
+        return result;
+    }
+    
+    private SQLRewriteResult createRewriteResult(final boolean parametersRewritten) {
+        return new RouteSQLRewriteResult(Collections.emptyMap(), parametersRewritten);
+    }
+    
+    private Collection<ExecutionUnit> createExecutionUnits(final String sql, final List<Object> params) {
+        return Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(sql, params, Collections.singletonList(new RouteMapper("t_order", "t_order_0")))));
+    }
+}
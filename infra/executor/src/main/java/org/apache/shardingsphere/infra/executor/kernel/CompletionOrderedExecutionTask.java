@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Completion ordered execution task.
+ *
+ * <p>
+ * The task is executed once by whichever thread starts it first, either a worker thread or the caller thread which steals it.
+ * The finished task is offered to the completed tasks queue with its results or exception.
+ * A started task is cancelled by its callback instead of thread interruption, since blocking JDBC I/O ignores interruption.
+ * The cancellation is repeated until the task finishes, in case it lands before the callback actually starts blocking I/O.
+ * </p>
+ *
+ * @param <I> type of input value
+ * @param <O> type of return value
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+final class CompletionOrderedExecutionTask<I, O> implements Runnable {
+    
+    private static final long CANCEL_RETRY_INTERVAL_MILLIS = 100L;
+    
+    private final ExecutionGroup<I> executionGroup;
+    
+    private final ExecutorCallback<I, O> callback;
+    
+    private final boolean isTrunkThread;
+    
+    private final Queue<CompletionOrderedExecutionTask<I, O>> completedTasks;
+    
+    private final AtomicBoolean started = new AtomicBoolean();
+    
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    
+    private final CountDownLatch finished = new CountDownLatch(1);
+    
+    private volatile Future<?> future;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private volatile boolean cancelledBeforeStarted;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private Collection<O> results;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private Exception exception;
+    
+    void setFuture(final Future<?> future) {
+        this.future = future;
+    }
+    
+    @Override
+    public void run() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            results = callback.execute(executionGroup.getInputs(), isTrunkThread);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            exception = ex;
+        } finally {
+            finished.countDown();
+            completedTasks.offer(this);
+        }
+    }
+    
+    /**
+     * Cancel task.
+     *
+     * <p>
+     * The task which is not started is never started after cancelled, the running task is cancelled by its callback.
+     * </p>
+     */
+    void cancel() {
+        if (!cancelled.compareAndSet(false, true)) {
+            return;
+        }
+        if (started.compareAndSet(false, true)) {
+            cancelledBeforeStarted = true;
+            if (null != future) {
+                future.cancel(false);
+            }
+            finished.countDown();
+            return;
+        }
+        cancelRunning();
+    }
+    
+    private void cancelRunning() {
+        if (0L != finished.getCount()) {
+            try {
+                callback.cancel(executionGroup.getInputs());
+            } catch (final SQLException ignore) {
+            }
+        }
+    }
+    
+    /**
+     * Wait until the cancelled task is finished, and cancel it again if it is still running.
+     */
+    void awaitFinished() {
+        try {
+            while (!finished.await(CANCEL_RETRY_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                cancelRunning();
+            }
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -18,20 +18,29 @@
 package org.apache.shardingsphere.infra.executor.kernel;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.exception.ExecutionTimeoutException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnknownSQLException;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Executor engine.
@@ -41,6 +50,8 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private static final int CPU_CORES = Runtime.getRuntime().availableProcessors();
     
+    private static final ScheduledExecutorService TIMEOUT_WATCHDOG = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("Executor-Engine-Timeout-Watchdog"));
+    
     private final ExecutorServiceManager executorServiceManager;
     
     private ExecutorEngine(final int executorSize) {
@@ -114,6 +125,120 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
     }
     
+    /**
+     * Execute in completion order.
+     *
+     * <p>
+     * Results of execution groups are returned in completion order instead of submission order, so a slow group does not block collecting results of other groups.
+     * The caller thread executes the first execution group, then executes the execution groups which are not started by worker threads yet.
+     * Execution groups which are not finished before timeout are cancelled, running ones are cancelled by callback, and this method returns after they stop.
+     * A watchdog cancels execution groups at timeout, including the ones running in the caller thread.
+     * </p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param timeoutMillis timeout milliseconds, less than or equal to 0 means no timeout
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result
+     * @throws SQLException throw if execute failure or timeout
+     */
+    public <I, O> List<O> executeInCompletionOrder(final ExecutionGroupContext<I> executionGroupContext,
+                                                   final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final long timeoutMillis) throws SQLException {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return Collections.emptyList();
+        }
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Iterator<ExecutionGroup<I>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        BlockingQueue<CompletionOrderedExecutionTask<I, O>> completedTasks = new LinkedBlockingQueue<>();
+        CompletionOrderedExecutionTask<I, O> firstTask = new CompletionOrderedExecutionTask<>(executionGroups.next(), null == firstCallback ? callback : firstCallback, true, new LinkedList<>());
+        List<CompletionOrderedExecutionTask<I, O>> tasks = new ArrayList<>(executionGroupContext.getInputGroups().size());
+        tasks.add(firstTask);
+        while (executionGroups.hasNext()) {
+            CompletionOrderedExecutionTask<I, O> task = new CompletionOrderedExecutionTask<>(executionGroups.next(), callback, false, completedTasks);
+            task.setFuture(executorServiceManager.getExecutorService().submit(task));
+            tasks.add(task);
+        }
+        ScheduledFuture<?> watchdog = timeoutMillis > 0L ? TIMEOUT_WATCHDOG.schedule(() -> tasks.forEach(CompletionOrderedExecutionTask::cancel), timeoutMillis, TimeUnit.MILLISECONDS) : null;
+        List<O> result = new ArrayList<>();
+        try {
+            firstTask.run();
+            checkTimeout(tasks, timeoutMillis, deadlineNanos);
+            collectResults(firstTask, result);
+            stealTasks(tasks, timeoutMillis, deadlineNanos);
+            collectCompletedResults(tasks, completedTasks, timeoutMillis, deadlineNanos, result);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            cancel(tasks);
+            throw ex;
+        } finally {
+            if (null != watchdog) {
+                watchdog.cancel(false);
+            }
+        }
+        return result;
+    }
+    
+    private <I, O> void stealTasks(final List<CompletionOrderedExecutionTask<I, O>> tasks, final long timeoutMillis, final long deadlineNanos) throws SQLException {
+        for (int i = tasks.size() - 1; i > 0; i--) {
+            checkTimeout(tasks, timeoutMillis, deadlineNanos);
+            tasks.get(i).run();
+        }
+        checkTimeout(tasks, timeoutMillis, deadlineNanos);
+    }
+    
+    private <I, O> void collectCompletedResults(final List<CompletionOrderedExecutionTask<I, O>> tasks, final BlockingQueue<CompletionOrderedExecutionTask<I, O>> completedTasks,
+                                                final long timeoutMillis, final long deadlineNanos, final List<O> result) throws SQLException {
+        for (int i = 1; i < tasks.size(); i++) {
+            CompletionOrderedExecutionTask<I, O> each = pollCompletedTask(completedTasks, timeoutMillis, deadlineNanos);
+            if (null == each) {
+                throw createTimeoutException(tasks, timeoutMillis);
+            }
+            checkTimeout(tasks, timeoutMillis, deadlineNanos);
+            collectResults(each, result);
+        }
+    }
+    
+    private <I, O> void collectResults(final CompletionOrderedExecutionTask<I, O> task, final List<O> result) throws SQLException {
+        if (task.getException() instanceof SQLException) {
+            throw (SQLException) task.getException();
+        }
+        if (null != task.getException()) {
+            throw new UnknownSQLException(task.getException());
+        }
+        if (null != task.getResults()) {
+            result.addAll(task.getResults());
+        }
+    }
+    
+    private <I, O> CompletionOrderedExecutionTask<I, O> pollCompletedTask(final BlockingQueue<CompletionOrderedExecutionTask<I, O>> completedTasks,
+                                                                          final long timeoutMillis, final long deadlineNanos) throws SQLException {
+        try {
+            return timeoutMillis > 0L ? completedTasks.poll(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS) : completedTasks.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UnknownSQLException(ex);
+        }
+    }
+    
+    private <I, O> void checkTimeout(final List<CompletionOrderedExecutionTask<I, O>> tasks, final long timeoutMillis, final long deadlineNanos) throws SQLException {
+        if (timeoutMillis > 0L && System.nanoTime() - deadlineNanos >= 0L) {
+            throw createTimeoutException(tasks, timeoutMillis);
+        }
+    }
+    
+    private <I, O> ExecutionTimeoutException createTimeoutException(final List<CompletionOrderedExecutionTask<I, O>> tasks, final long timeoutMillis) {
+        return new ExecutionTimeoutException(timeoutMillis, cancel(tasks));
+    }
+    
+    private <I, O> int cancel(final List<CompletionOrderedExecutionTask<I, O>> tasks) {
+        tasks.forEach(CompletionOrderedExecutionTask::cancel);
+        tasks.forEach(CompletionOrderedExecutionTask::awaitFinished);
+        return (int) tasks.stream().filter(CompletionOrderedExecutionTask::isCancelledBeforeStarted).count();
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
         List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
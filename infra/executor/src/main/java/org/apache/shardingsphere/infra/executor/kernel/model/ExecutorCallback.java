@@ -37,4 +37,13 @@ public interface ExecutorCallback<I, O> {
      * @throws SQLException throw when execute failure
      */
     Collection<O> execute(Collection<I> inputs, boolean isTrunkThread) throws SQLException;
+    
+    /**
+     * Cancel execution of input values which is running in another thread.
+     *
+     * @param inputs input values
+     * @throws SQLException throw when cancel failure
+     */
+    default void cancel(Collection<I> inputs) throws SQLException {
+    }
 }
@@ -70,4 +70,32 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute and return results in completion order.
+     *
+     * <p>
+     * Execution groups are executed serially and returned in submission order in transaction.
+     * </p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param timeoutMillis timeout milliseconds, less than or equal to 0 means no timeout
+     * @param <T> class type of return value
+     * @return execute result
+     * @throws SQLException SQL exception
+     */
+    public <T> List<T> executeInCompletionOrder(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback, final long timeoutMillis) throws SQLException {
+        if (connectionContext.getTransactionContext().isInTransaction()) {
+            return execute(executionGroupContext, firstCallback, callback);
+        }
+        try {
+            return executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback, timeoutMillis);
+        } catch (final SQLException ex) {
+            SQLExecutorExceptionHandler.handleException(ex);
+            return Collections.emptyList();
+        }
+    }
 }
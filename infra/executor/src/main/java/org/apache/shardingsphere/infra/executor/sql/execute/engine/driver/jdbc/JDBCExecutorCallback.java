@@ -57,12 +57,22 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
     
     private final boolean isExceptionThrown;
     
+    private final Map<Statement, StatementState> statementStates = new ConcurrentHashMap<>();
+    
     @Override
     public final Collection<T> execute(final Collection<JDBCExecutionUnit> executionUnits, final boolean isTrunkThread) throws SQLException {
         // TODO It is better to judge whether need sane result before execute, can avoid exception thrown
         Collection<T> result = new LinkedList<>();
         for (JDBCExecutionUnit each : executionUnits) {
-            T executeResult = execute(each, isTrunkThread);
+            if (StatementState.RUNNING != statementStates.compute(each.getStorageResource(), (key, value) -> getStartedState(value))) {
+                break;
+            }
+            T executeResult;
+            try {
+                executeResult = execute(each, isTrunkThread);
+            } finally {
+                statementStates.put(each.getStorageResource(), StatementState.FINISHED);
+            }
             if (null != executeResult) {
                 result.add(executeResult);
             }
@@ -100,6 +110,26 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         }
     }
     
+    @Override
+    public final void cancel(final Collection<JDBCExecutionUnit> executionUnits) throws SQLException {
+        for (JDBCExecutionUnit each : executionUnits) {
+            if (StatementState.CANCELING == statementStates.compute(each.getStorageResource(), (key, value) -> getCancelledState(value))) {
+                each.getStorageResource().cancel();
+            }
+        }
+    }
+    
+    private StatementState getStartedState(final StatementState state) {
+        return null == state || StatementState.FINISHED == state ? StatementState.RUNNING : state;
+    }
+    
+    private StatementState getCancelledState(final StatementState state) {
+        if (null == state || StatementState.CANCELLED == state) {
+            return StatementState.CANCELLED;
+        }
+        return StatementState.FINISHED == state ? StatementState.FINISHED : StatementState.CANCELING;
+    }
+    
     private DataSourceMetaData getDataSourceMetaData(final DatabaseMetaData databaseMetaData, final DatabaseType storageType) throws SQLException {
         String url = databaseMetaData.getURL();
         if (CACHED_DATASOURCE_METADATA.containsKey(url)) {
@@ -117,4 +147,8 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
     protected abstract T executeSQL(String sql, Statement statement, ConnectionMode connectionMode, DatabaseType storageType) throws SQLException;
     
     protected abstract Optional<T> getSaneResult(SQLStatement sqlStatement, SQLException ex);
+    
+    private enum StatementState {
+        RUNNING, CANCELING, CANCELLED, FINISHED
+    }
 }
@@ -17,22 +17,29 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.executor.exception.ExecutionTimeoutException;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -97,6 +104,122 @@ class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    void assertExecuteInCompletionOrder() throws SQLException, InterruptedException {
+        List<String> actual = executorEngine.executeInCompletionOrder(createMockedExecutionGroups(5, 2), firstCallback, callback, 0L);
+        assertThat(actual.size(), is(10));
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithSlowGroup() throws SQLException {
+        CountDownLatch slowGroupLatch = new CountDownLatch(1);
+        ExecutorCallback<Object, String> callback = (inputs, isTrunkThread) -> {
+            String input = (String) inputs.iterator().next();
+            if ("slow".equals(input)) {
+                awaitQuietly(slowGroupLatch);
+                sleepQuietly();
+            } else {
+                slowGroupLatch.countDown();
+            }
+            return Collections.singletonList(input);
+        };
+        Collection<ExecutionGroup<Object>> executionGroups = Arrays.asList(
+                new ExecutionGroup<>(Collections.singletonList("first")), new ExecutionGroup<>(Collections.singletonList("slow")), new ExecutionGroup<>(Collections.singletonList("fast")));
+        ExecutorEngine twoThreadsExecutorEngine = ExecutorEngine.createExecutorEngineWithSize(2);
+        try {
+            List<String> actual = twoThreadsExecutorEngine.executeInCompletionOrder(new ExecutionGroupContext<>(executionGroups, mock(ExecutionGroupReportContext.class)), null, callback, 0L);
+            assertThat(actual, is(Arrays.asList("first", "fast", "slow")));
+        } finally {
+            twoThreadsExecutorEngine.close();
+        }
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithTimeout() {
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        AtomicBoolean blockingFinished = new AtomicBoolean();
+        ExecutorCallback<Object, String> waitingCallback = (inputs, isTrunkThread) -> {
+            awaitQuietly(startedLatch);
+            return Collections.emptyList();
+        };
+        ExecutorCallback<Object, String> blockingCallback = new ExecutorCallback<Object, String>() {
+            
+            @Override
+            public Collection<String> execute(final Collection<Object> inputs, final boolean isTrunkThread) {
+                startedLatch.countDown();
+                awaitQuietly(blockingLatch);
+                sleepQuietly();
+                blockingFinished.set(true);
+                return Collections.emptyList();
+            }
+            
+            @Override
+            public void cancel(final Collection<Object> inputs) {
+                blockingLatch.countDown();
+            }
+        };
+        ExecutorEngine singleThreadExecutorEngine = ExecutorEngine.createExecutorEngineWithSize(1);
+        try {
+            assertThrows(ExecutionTimeoutException.class, () -> singleThreadExecutorEngine.executeInCompletionOrder(createMockedExecutionGroups(2, 1), waitingCallback, blockingCallback, 100L));
+            assertTrue(blockingFinished.get());
+        } finally {
+            blockingLatch.countDown();
+            singleThreadExecutorEngine.close();
+        }
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithCallerThreadBlockedPastTimeout() {
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        ExecutorCallback<Object, String> blockingCallback = new ExecutorCallback<Object, String>() {
+            
+            @Override
+            public Collection<String> execute(final Collection<Object> inputs, final boolean isTrunkThread) throws SQLException {
+                try {
+                    if (!blockingLatch.await(10L, TimeUnit.SECONDS)) {
+                        return Collections.singletonList("not cancelled");
+                    }
+                } catch (final InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new SQLException("cancelled");
+            }
+            
+            @Override
+            public void cancel(final Collection<Object> inputs) {
+                blockingLatch.countDown();
+            }
+        };
+        assertThrows(ExecutionTimeoutException.class, () -> executorEngine.executeInCompletionOrder(createMockedExecutionGroups(1, 1), blockingCallback, callback, 100L));
+        assertThat(blockingLatch.getCount(), is(0L));
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithException() {
+        ExecutorCallback<Object, String> failedCallback = (inputs, isTrunkThread) -> {
+            throw new SQLException("failed");
+        };
+        SQLException actual = assertThrows(SQLException.class, () -> executorEngine.executeInCompletionOrder(createMockedExecutionGroups(3, 1), null, failedCallback, 0L));
+        assertThat(actual.getMessage(), is("failed"));
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(100L);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
     @Test
     void assertExecutionGroupIsEmpty() throws SQLException {
         CountDownLatch latch = new CountDownLatch(1);
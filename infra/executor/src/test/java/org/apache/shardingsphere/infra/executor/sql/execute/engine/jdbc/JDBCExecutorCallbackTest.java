@@ -40,6 +40,7 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -49,6 +50,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -99,6 +102,33 @@ class JDBCExecutorCallbackTest {
         assertThat(cachedDataSourceMetaData.size(), is(1));
     }
     
+    @Test
+    void assertCancelWhileExecuting() throws SQLException {
+        PreparedStatement notStartedStatement = mock(PreparedStatement.class);
+        Collection<JDBCExecutionUnit> cancelledUnits = Arrays.asList(units.iterator().next(),
+                new JDBCExecutionUnit(new ExecutionUnit("ds", new SQLUnit("SELECT now()", Collections.emptyList())), ConnectionMode.CONNECTION_STRICTLY, notStartedStatement));
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+        JDBCExecutorCallback<Integer> callback = new JDBCExecutorCallback<Integer>(databaseType, Collections.singletonMap("ds", databaseType), mock(SelectStatement.class), true) {
+            
+            @Override
+            protected Integer executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode, final DatabaseType storageType) throws SQLException {
+                cancel(cancelledUnits);
+                return ((PreparedStatement) statement).executeUpdate();
+            }
+            
+            @Override
+            protected Optional<Integer> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
+                return Optional.empty();
+            }
+        };
+        when(preparedStatement.executeUpdate()).thenReturn(1);
+        assertThat(callback.execute(cancelledUnits, false), is(Collections.singletonList(1)));
+        verify(preparedStatement).cancel();
+        verifyNoInteractions(notStartedStatement);
+        callback.cancel(cancelledUnits);
+        verify(preparedStatement).cancel();
+    }
+    
     @Test
     void assertExecuteFailedAndProtocolTypeDifferentWithDatabaseType() throws SQLException {
         Object saneResult = new Object();
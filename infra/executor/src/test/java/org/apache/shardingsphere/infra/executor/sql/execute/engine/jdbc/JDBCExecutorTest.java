@@ -36,6 +36,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -54,6 +56,28 @@ class JDBCExecutorTest {
         assertThat(actual2, is(Collections.singletonList("test")));
     }
     
+    @Test
+    void assertExecuteInCompletionOrder() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        ExecutionGroup<JDBCExecutionUnit> group = new ExecutionGroup<>(Collections.singletonList(mock(JDBCExecutionUnit.class)));
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.singletonList(group), mock(ExecutionGroupReportContext.class));
+        when(executorEngine.executeInCompletionOrder(any(), any(), any(), anyLong())).thenReturn(Collections.singletonList("test"));
+        JDBCExecutor jdbcExecutor = new JDBCExecutor(executorEngine, new ConnectionContext());
+        assertThat(jdbcExecutor.executeInCompletionOrder(context, null, null, 1000L), is(Collections.singletonList("test")));
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderInTransaction() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        ExecutionGroup<JDBCExecutionUnit> group = new ExecutionGroup<>(Collections.singletonList(mock(JDBCExecutionUnit.class)));
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.singletonList(group), mock(ExecutionGroupReportContext.class));
+        when(executorEngine.execute(any(), any(), any(), eq(true))).thenReturn(Collections.singletonList("test"));
+        ConnectionContext connectionContext = new ConnectionContext();
+        connectionContext.getTransactionContext().setInTransaction(true);
+        JDBCExecutor jdbcExecutor = new JDBCExecutor(executorEngine, connectionContext);
+        assertThat(jdbcExecutor.executeInCompletionOrder(context, null, null, 1000L), is(Collections.singletonList("test")));
+    }
+    
     @Test
     void assertExecuteSQLException() {
         try {
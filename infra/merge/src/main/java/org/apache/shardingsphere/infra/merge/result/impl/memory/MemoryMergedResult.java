@@ -17,7 +17,11 @@
 
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
+import lombok.AccessLevel;
+import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
@@ -34,6 +38,7 @@ import java.sql.SQLXML;
 import java.util.Calendar;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Properties;
 
 /**
  * Memory merged result.
@@ -42,6 +47,11 @@ import java.util.List;
  */
 public abstract class MemoryMergedResult<T extends ShardingSphereRule> implements MergedResult {
     
+    @Getter(AccessLevel.PROTECTED)
+    private final ConfigurationProperties props;
+    
+    private final Iterable<MemoryQueryResultRow> memoryQueryResultRows;
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
     private MemoryQueryResultRow currentResultSetRow;
@@ -49,14 +59,42 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     private boolean wasNull;
     
     protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
-        List<MemoryQueryResultRow> memoryQueryResultRows = init(rule, schema, sqlStatementContext, queryResults);
-        memoryResultSetRows = memoryQueryResultRows.iterator();
-        if (!memoryQueryResultRows.isEmpty()) {
-            currentResultSetRow = memoryQueryResultRows.get(0);
+        this(rule, schema, sqlStatementContext, queryResults, new ConfigurationProperties(new Properties()));
+    }
+    
+    protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults,
+                                 final ConfigurationProperties props) throws SQLException {
+        this.props = props;
+        memoryQueryResultRows = init(rule, schema, sqlStatementContext, queryResults);
+        boolean iterated = false;
+        try {
+            memoryResultSetRows = memoryQueryResultRows.iterator();
+            iterated = true;
+        } finally {
+            if (!iterated) {
+                close();
+            }
+        }
+        if (memoryQueryResultRows instanceof List && !((List<MemoryQueryResultRow>) memoryQueryResultRows).isEmpty()) {
+            currentResultSetRow = ((List<MemoryQueryResultRow>) memoryQueryResultRows).get(0);
         }
     }
     
-    protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext<?> sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
+    /**
+     * Initialize memory query result rows.
+     *
+     * <p>
+     * Rows can be returned as {@link SpillableMemoryQueryResultRows} to keep memory usage under the quota configured by {@link ConfigurationPropertyKey#MERGE_MEMORY_QUOTA_BYTES}.
+     * </p>
+     *
+     * @param rule rule
+     * @param schema schema
+     * @param sqlStatementContext SQL statement context
+     * @param queryResults query results
+     * @return memory query result rows
+     * @throws SQLException SQL exception
+     */
+    protected abstract Iterable<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext<?> sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
     
     @Override
     public final boolean next() {
@@ -93,4 +131,11 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public final void close() {
+        if (memoryQueryResultRows instanceof SpillableMemoryQueryResultRows) {
+            ((SpillableMemoryQueryResultRows) memoryQueryResultRows).close();
+        }
+    }
 }
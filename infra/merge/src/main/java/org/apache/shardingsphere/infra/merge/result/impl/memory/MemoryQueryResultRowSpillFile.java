@@ -0,0 +1,385 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Spill file of memory query result rows.
+ *
+ * <p>
+ * Rows are written to a temporary file and read back sequentially through a buffered stream, so rows can be iterated only once.
+ * The file is deleted as soon as it is opened for reading where the file system allows, otherwise when the stream is closed.
+ * The stream is closed as soon as the last row is read, or when the spill file is closed.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class MemoryQueryResultRowSpillFile implements Iterable<MemoryQueryResultRow> {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte STRING = 1;
+    
+    private static final byte INTEGER = 2;
+    
+    private static final byte LONG = 3;
+    
+    private static final byte SHORT = 4;
+    
+    private static final byte BYTE = 5;
+    
+    private static final byte BOOLEAN = 6;
+    
+    private static final byte FLOAT = 7;
+    
+    private static final byte DOUBLE = 8;
+    
+    private static final byte BIG_DECIMAL = 9;
+    
+    private static final byte BIG_INTEGER = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte TIMESTAMP = 12;
+    
+    private static final byte DATE = 13;
+    
+    private static final byte TIME = 14;
+    
+    private static final byte SERIALIZED = 15;
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final Path file;
+    
+    private final int rowCount;
+    
+    private final long size;
+    
+    private boolean iterated;
+    
+    private SpillFileIterator openedIterator;
+    
+    /**
+     * Write rows to spill file.
+     *
+     * @param rows rows to be written
+     * @return spill file
+     * @throws SQLException SQL exception
+     */
+    static MemoryQueryResultRowSpillFile write(final Iterator<MemoryQueryResultRow> rows) throws SQLException {
+        try {
+            Path file = Files.createTempFile("shardingsphere-merge-", ".spill");
+            boolean written = false;
+            try {
+                int rowCount = writeRows(file, rows);
+                MemoryQueryResultRowSpillFile result = new MemoryQueryResultRowSpillFile(file, rowCount, Files.size(file));
+                written = true;
+                return result;
+            } finally {
+                if (!written) {
+                    delete(file);
+                }
+            }
+        } catch (final IOException ex) {
+            throw new SQLException("Spill memory query result rows failed", ex);
+        }
+    }
+    
+    private static int writeRows(final Path file, final Iterator<MemoryQueryResultRow> rows) throws IOException, SQLException {
+        int result = 0;
+        try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE))) {
+            while (rows.hasNext()) {
+                MemoryQueryResultRow row = rows.next();
+                outputStream.writeInt(row.getColumnCount());
+                for (int i = 1; i <= row.getColumnCount(); i++) {
+                    writeValue(outputStream, row.getCell(i));
+                }
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private static void writeValue(final DataOutputStream outputStream, final Object value) throws IOException, SQLException {
+        if (null == value) {
+            outputStream.writeByte(NULL);
+        } else if (value instanceof String) {
+            outputStream.writeByte(STRING);
+            writeBytes(outputStream, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Integer) {
+            outputStream.writeByte(INTEGER);
+            outputStream.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            outputStream.writeByte(LONG);
+            outputStream.writeLong((Long) value);
+        } else if (value instanceof Short) {
+            outputStream.writeByte(SHORT);
+            outputStream.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            outputStream.writeByte(BYTE);
+            outputStream.writeByte((Byte) value);
+        } else if (value instanceof Boolean) {
+            outputStream.writeByte(BOOLEAN);
+            outputStream.writeBoolean((Boolean) value);
+        } else if (value instanceof Float) {
+            outputStream.writeByte(FLOAT);
+            outputStream.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            outputStream.writeByte(DOUBLE);
+            outputStream.writeDouble((Double) value);
+        } else if (value instanceof BigDecimal) {
+            outputStream.writeByte(BIG_DECIMAL);
+            outputStream.writeInt(((BigDecimal) value).scale());
+            writeBytes(outputStream, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger) {
+            outputStream.writeByte(BIG_INTEGER);
+            writeBytes(outputStream, ((BigInteger) value).toByteArray());
+        } else if (value instanceof byte[]) {
+            outputStream.writeByte(BYTES);
+            writeBytes(outputStream, (byte[]) value);
+        } else {
+            writeTemporalOrSerializedValue(outputStream, value);
+        }
+    }
+    
+    private static void writeTemporalOrSerializedValue(final DataOutputStream outputStream, final Object value) throws IOException, SQLException {
+        if (Timestamp.class == value.getClass()) {
+            outputStream.writeByte(TIMESTAMP);
+            outputStream.writeLong(((Timestamp) value).getTime());
+            outputStream.writeInt(((Timestamp) value).getNanos());
+        } else if (Date.class == value.getClass()) {
+            outputStream.writeByte(DATE);
+            outputStream.writeLong(((Date) value).getTime());
+        } else if (Time.class == value.getClass()) {
+            outputStream.writeByte(TIME);
+            outputStream.writeLong(((Time) value).getTime());
+        } else if (value instanceof Serializable) {
+            outputStream.writeByte(SERIALIZED);
+            writeBytes(outputStream, serialize(value));
+        } else {
+            throw new SQLFeatureNotSupportedException(String.format("Spill value of type `%s`", value.getClass().getName()));
+        }
+    }
+    
+    private static void writeBytes(final DataOutputStream outputStream, final byte[] value) throws IOException {
+        outputStream.writeInt(value.length);
+        outputStream.write(value);
+    }
+    
+    private static byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    private static boolean delete(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+            return true;
+        } catch (final IOException ignored) {
+            return false;
+        }
+    }
+    
+    /**
+     * Get spilled bytes.
+     *
+     * @return spilled bytes
+     */
+    long getSize() {
+        return size;
+    }
+    
+    @Override
+    public Iterator<MemoryQueryResultRow> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("Spill file can be iterated only once");
+        }
+        iterated = true;
+        if (0 == rowCount) {
+            delete(file);
+            return Collections.emptyIterator();
+        }
+        try {
+            DataInputStream inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE));
+            openedIterator = new SpillFileIterator(inputStream, rowCount, file, delete(file));
+            return openedIterator;
+        } catch (final IOException ex) {
+            delete(file);
+            throw new IllegalStateException(ex);
+        }
+    }
+    
+    /**
+     * Close spill file, the opened stream is closed and the file is deleted.
+     */
+    void close() {
+        if (null != openedIterator) {
+            openedIterator.close();
+        } else if (!iterated) {
+            iterated = true;
+            delete(file);
+        }
+    }
+    
+    private static final class SpillFileIterator implements Iterator<MemoryQueryResultRow> {
+        
+        private final DataInputStream inputStream;
+        
+        private final Path file;
+        
+        private final boolean deleted;
+        
+        private int remainingRowCount;
+        
+        private boolean closed;
+        
+        SpillFileIterator(final DataInputStream inputStream, final int rowCount, final Path file, final boolean deleted) {
+            this.inputStream = inputStream;
+            this.file = file;
+            this.deleted = deleted;
+            remainingRowCount = rowCount;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return remainingRowCount > 0;
+        }
+        
+        @Override
+        public MemoryQueryResultRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            remainingRowCount--;
+            try {
+                Object[] data = new Object[inputStream.readInt()];
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = readValue();
+                }
+                if (0 == remainingRowCount) {
+                    close();
+                }
+                return new MemoryQueryResultRow(data);
+            } catch (final IOException ex) {
+                close();
+                throw new IllegalStateException(ex);
+            }
+        }
+        
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            remainingRowCount = 0;
+            try {
+                inputStream.close();
+            } catch (final IOException ignored) {
+            }
+            if (!deleted) {
+                delete(file);
+            }
+        }
+        
+        private Object readValue() throws IOException {
+            byte type = inputStream.readByte();
+            switch (type) {
+                case NULL:
+                    return null;
+                case STRING:
+                    return new String(readBytes(), StandardCharsets.UTF_8);
+                case INTEGER:
+                    return inputStream.readInt();
+                case LONG:
+                    return inputStream.readLong();
+                case SHORT:
+                    return inputStream.readShort();
+                case BYTE:
+                    return inputStream.readByte();
+                case BOOLEAN:
+                    return inputStream.readBoolean();
+                case FLOAT:
+                    return inputStream.readFloat();
+                case DOUBLE:
+                    return inputStream.readDouble();
+                case BIG_DECIMAL:
+                    int scale = inputStream.readInt();
+                    return new BigDecimal(new BigInteger(readBytes()), scale);
+                case BIG_INTEGER:
+                    return new BigInteger(readBytes());
+                case BYTES:
+                    return readBytes();
+                case TIMESTAMP:
+                    Timestamp result = new Timestamp(inputStream.readLong());
+                    result.setNanos(inputStream.readInt());
+                    return result;
+                case DATE:
+                    return new Date(inputStream.readLong());
+                case TIME:
+                    return new Time(inputStream.readLong());
+                case SERIALIZED:
+                    return deserialize(readBytes());
+                default:
+                    throw new IllegalStateException(String.format("Unknown spilled value type `%d`", type));
+            }
+        }
+        
+        private byte[] readBytes() throws IOException {
+            byte[] result = new byte[inputStream.readInt()];
+            inputStream.readFully(result);
+            return result;
+        }
+        
+        private Object deserialize(final byte[] value) {
+            try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(value))) {
+                return objectInputStream.readObject();
+            } catch (final IOException | ClassNotFoundException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Spillable memory query result rows.
+ *
+ * <p>
+ * Rows are buffered in memory until the estimated size exceeds memory quota, then the buffered rows are sorted and spilled to a file as a sorted run.
+ * Rows are iterated by merging all sorted runs with the rows still buffered, rows with equal order keep the order they are added.
+ * At most {@link #DEFAULT_MERGE_FAN_IN} sorted runs are opened at the same time, consecutive runs are merged into new runs by passes until the rest can be merged at once.
+ * Spilled rows are read back sequentially, so rows can be iterated only once after spilled, and the runs still opened are released by {@link #close()}.
+ * </p>
+ */
+public final class SpillableMemoryQueryResultRows implements Iterable<MemoryQueryResultRow> {
+    
+    private static final int DEFAULT_MERGE_FAN_IN = 64;
+    
+    private static final int ROW_OVERHEAD_BYTES = 32;
+    
+    private static final int CELL_OVERHEAD_BYTES = 24;
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final long memoryQuotaBytes;
+    
+    private final int mergeFanIn;
+    
+    private final List<MemoryQueryResultRow> bufferedRows = new ArrayList<>();
+    
+    private final List<MemoryQueryResultRowSpillFile> spillFiles = new LinkedList<>();
+    
+    private long bufferedBytes;
+    
+    public SpillableMemoryQueryResultRows(final Comparator<MemoryQueryResultRow> comparator, final long memoryQuotaBytes) {
+        this(comparator, memoryQuotaBytes, DEFAULT_MERGE_FAN_IN);
+    }
+    
+    SpillableMemoryQueryResultRows(final Comparator<MemoryQueryResultRow> comparator, final long memoryQuotaBytes, final int mergeFanIn) {
+        Preconditions.checkArgument(mergeFanIn > 1, "Merge fan in must be greater than 1.");
+        this.comparator = comparator;
+        this.memoryQuotaBytes = memoryQuotaBytes;
+        this.mergeFanIn = mergeFanIn;
+    }
+    
+    /**
+     * Add row.
+     *
+     * @param row row to be added
+     * @throws SQLException SQL exception
+     */
+    public void add(final MemoryQueryResultRow row) throws SQLException {
+        bufferedRows.add(row);
+        bufferedBytes += estimateSize(row);
+        if (memoryQuotaBytes > 0L && bufferedBytes > memoryQuotaBytes) {
+            spill();
+        }
+    }
+    
+    /**
+     * Estimate heap size of row.
+     *
+     * @param row row to be estimated
+     * @return estimated bytes
+     */
+    public static long estimateSize(final MemoryQueryResultRow row) {
+        long result = ROW_OVERHEAD_BYTES;
+        for (int i = 1; i <= row.getColumnCount(); i++) {
+            result += estimateSize(row.getCell(i));
+        }
+        return result;
+    }
+    
+    private static long estimateSize(final Object value) {
+        if (null == value) {
+            return 8L;
+        }
+        if (value instanceof String) {
+            return CELL_OVERHEAD_BYTES + 24L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return CELL_OVERHEAD_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return CELL_OVERHEAD_BYTES + 48L;
+        }
+        return CELL_OVERHEAD_BYTES;
+    }
+    
+    /**
+     * Spill buffered rows to file as a sorted run.
+     *
+     * @return spilled bytes
+     * @throws SQLException SQL exception
+     */
+    public long spill() throws SQLException {
+        if (bufferedRows.isEmpty()) {
+            return 0L;
+        }
+        bufferedRows.sort(comparator);
+        MemoryQueryResultRowSpillFile spillFile = MemoryQueryResultRowSpillFile.write(bufferedRows.iterator());
+        spillFiles.add(spillFile);
+        bufferedRows.clear();
+        bufferedBytes = 0L;
+        return spillFile.getSize();
+    }
+    
+    /**
+     * Judge whether rows are spilled.
+     *
+     * @return rows are spilled or not
+     */
+    public boolean isSpilled() {
+        return !spillFiles.isEmpty();
+    }
+    
+    @Override
+    public Iterator<MemoryQueryResultRow> iterator() {
+        bufferedRows.sort(comparator);
+        if (spillFiles.isEmpty()) {
+            return bufferedRows.iterator();
+        }
+        while (spillFiles.size() >= mergeFanIn) {
+            mergeSpillFiles();
+        }
+        List<Iterator<MemoryQueryResultRow>> sortedRuns = new ArrayList<>(spillFiles.size() + 1);
+        for (MemoryQueryResultRowSpillFile each : spillFiles) {
+            sortedRuns.add(each.iterator());
+        }
+        sortedRuns.add(bufferedRows.iterator());
+        return new SortedRunsMergeIterator(sortedRuns, comparator);
+    }
+    
+    private void mergeSpillFiles() {
+        List<MemoryQueryResultRowSpillFile> mergedSpillFiles = new LinkedList<>();
+        try {
+            while (!spillFiles.isEmpty()) {
+                List<MemoryQueryResultRowSpillFile> group = new ArrayList<>(mergeFanIn);
+                while (group.size() < mergeFanIn && !spillFiles.isEmpty()) {
+                    group.add(spillFiles.remove(0));
+                }
+                mergedSpillFiles.add(1 == group.size() ? group.get(0) : mergeSpillFiles(group));
+            }
+        } finally {
+            spillFiles.addAll(0, mergedSpillFiles);
+        }
+    }
+    
+    private MemoryQueryResultRowSpillFile mergeSpillFiles(final List<MemoryQueryResultRowSpillFile> group) {
+        try {
+            List<Iterator<MemoryQueryResultRow>> sortedRuns = new ArrayList<>(group.size());
+            for (MemoryQueryResultRowSpillFile each : group) {
+                sortedRuns.add(each.iterator());
+            }
+            return MemoryQueryResultRowSpillFile.write(new SortedRunsMergeIterator(sortedRuns, comparator));
+        } catch (final SQLException ex) {
+            throw new IllegalStateException(ex);
+        } finally {
+            group.forEach(MemoryQueryResultRowSpillFile::close);
+        }
+    }
+    
+    /**
+     * Close rows, the opened sorted runs are closed and all spill files are deleted.
+     */
+    public void close() {
+        spillFiles.forEach(MemoryQueryResultRowSpillFile::close);
+        spillFiles.clear();
+        bufferedRows.clear();
+        bufferedBytes = 0L;
+    }
+    
+    private static final class SortedRunsMergeIterator implements Iterator<MemoryQueryResultRow> {
+        
+        private final List<Iterator<MemoryQueryResultRow>> sortedRuns;
+        
+        private final PriorityQueue<SortedRunHead> heads;
+        
+        SortedRunsMergeIterator(final List<Iterator<MemoryQueryResultRow>> sortedRuns, final Comparator<MemoryQueryResultRow> comparator) {
+            this.sortedRuns = sortedRuns;
+            heads = new PriorityQueue<>(sortedRuns.size(), (o1, o2) -> {
+                int result = comparator.compare(o1.row, o2.row);
+                return 0 == result ? Integer.compare(o1.runIndex, o2.runIndex) : result;
+            });
+            for (int i = 0; i < sortedRuns.size(); i++) {
+                offerNext(i);
+            }
+        }
+        
+        private void offerNext(final int runIndex) {
+            Iterator<MemoryQueryResultRow> sortedRun = sortedRuns.get(runIndex);
+            if (sortedRun.hasNext()) {
+                heads.offer(new SortedRunHead(sortedRun.next(), runIndex));
+            }
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+        
+        @Override
+        public MemoryQueryResultRow next() {
+            SortedRunHead head = heads.poll();
+            if (null == head) {
+                throw new NoSuchElementException();
+            }
+            offerNext(head.runIndex);
+            return head.row;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SortedRunHead {
+        
+        private final MemoryQueryResultRow row;
+        
+        private final int runIndex;
+    }
+}
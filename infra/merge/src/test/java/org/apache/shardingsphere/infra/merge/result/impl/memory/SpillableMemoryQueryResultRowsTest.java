@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillableMemoryQueryResultRowsTest {
+    
+    private final Comparator<MemoryQueryResultRow> comparator = Comparator.comparing(row -> (Integer) row.getCell(1));
+    
+    @Test
+    void assertIterateWithoutSpill() throws SQLException {
+        SpillableMemoryQueryResultRows rows = new SpillableMemoryQueryResultRows(comparator, 0L);
+        for (int each : new int[]{3, 1, 2}) {
+            rows.add(new MemoryQueryResultRow(new Object[]{each, "value_" + each}));
+        }
+        assertFalse(rows.isSpilled());
+        assertThat(getFirstCells(rows), is(Arrays.asList(1, 2, 3)));
+    }
+    
+    @Test
+    void assertIterateWithSpill() throws SQLException {
+        SpillableMemoryQueryResultRows rows = new SpillableMemoryQueryResultRows(comparator, 512L);
+        for (int i = 0; i < 100; i++) {
+            rows.add(new MemoryQueryResultRow(new Object[]{(i * 37) % 100, "value_" + i}));
+        }
+        assertTrue(rows.isSpilled());
+        List<Object> actual = getFirstCells(rows);
+        assertThat(actual.size(), is(100));
+        for (int i = 0; i < 100; i++) {
+            assertThat(actual.get(i), is(i));
+        }
+    }
+    
+    @Test
+    void assertIterateWithSpillKeepsOrderOfEqualRows() throws SQLException {
+        SpillableMemoryQueryResultRows rows = new SpillableMemoryQueryResultRows(comparator, 0L);
+        rows.add(new MemoryQueryResultRow(new Object[]{1, "first"}));
+        rows.add(new MemoryQueryResultRow(new Object[]{0, "zero"}));
+        assertThat(rows.spill() > 0L, is(true));
+        rows.add(new MemoryQueryResultRow(new Object[]{1, "second"}));
+        List<MemoryQueryResultRow> actual = new ArrayList<>();
+        rows.forEach(actual::add);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0).getCell(2), is("zero"));
+        assertThat(actual.get(1).getCell(2), is("first"));
+        assertThat(actual.get(2).getCell(2), is("second"));
+    }
+    
+    @Test
+    void assertIterateWithMultiPassMerge() throws SQLException {
+        SpillableMemoryQueryResultRows rows = new SpillableMemoryQueryResultRows(comparator, 0L, 2);
+        for (int i = 0; i < 7; i++) {
+            rows.add(new MemoryQueryResultRow(new Object[]{1, "run_" + i}));
+            rows.add(new MemoryQueryResultRow(new Object[]{i, "value_" + i}));
+            rows.spill();
+        }
+        rows.add(new MemoryQueryResultRow(new Object[]{1, "buffered"}));
+        List<MemoryQueryResultRow> actual = new ArrayList<>();
+        rows.forEach(actual::add);
+        assertThat(actual.size(), is(15));
+        for (int i = 1; i < actual.size(); i++) {
+            assertTrue((Integer) actual.get(i - 1).getCell(1) <= (Integer) actual.get(i).getCell(1));
+        }
+        List<Object> actualEqualRows = new ArrayList<>();
+        for (MemoryQueryResultRow each : actual) {
+            if (each.getCell(2).toString().startsWith("run_") || "value_1".equals(each.getCell(2)) || "buffered".equals(each.getCell(2))) {
+                actualEqualRows.add(each.getCell(2));
+            }
+        }
+        assertThat(actualEqualRows, is(Arrays.asList("run_0", "run_1", "value_1", "run_2", "run_3", "run_4", "run_5", "run_6", "buffered")));
+    }
+    
+    @Test
+    void assertCloseDeletesSpillFiles() throws SQLException, IOException {
+        final long originalSpillFileCount = countSpillFiles();
+        SpillableMemoryQueryResultRows rows = new SpillableMemoryQueryResultRows(comparator, 0L);
+        rows.add(new MemoryQueryResultRow(new Object[]{1, "value_1"}));
+        rows.spill();
+        rows.add(new MemoryQueryResultRow(new Object[]{2, "value_2"}));
+        rows.spill();
+        assertThat(countSpillFiles(), is(originalSpillFileCount + 2L));
+        rows.close();
+        assertThat(countSpillFiles(), is(originalSpillFileCount));
+        assertFalse(rows.isSpilled());
+    }
+    
+    @Test
+    void assertCloseAfterPartiallyIterated() throws SQLException {
+        SpillableMemoryQueryResultRows rows = new SpillableMemoryQueryResultRows(comparator, 0L);
+        rows.add(new MemoryQueryResultRow(new Object[]{1, "value_1"}));
+        rows.add(new MemoryQueryResultRow(new Object[]{2, "value_2"}));
+        rows.spill();
+        Iterator<MemoryQueryResultRow> iterator = rows.iterator();
+        assertThat(iterator.next().getCell(1), is(1));
+        rows.close();
+        assertFalse(rows.isSpilled());
+    }
+    
+    @Test
+    void assertIterateTwiceWithSpill() throws SQLException {
+        SpillableMemoryQueryResultRows rows = new SpillableMemoryQueryResultRows(comparator, 0L);
+        rows.add(new MemoryQueryResultRow(new Object[]{1, "value_1"}));
+        rows.spill();
+        assertThat(getFirstCells(rows), is(Collections.singletonList(1)));
+        assertThrows(IllegalStateException.class, rows::iterator);
+    }
+    
+    @Test
+    void assertSpillValues() throws SQLException {
+        SpillableMemoryQueryResultRows rows = new SpillableMemoryQueryResultRows(comparator, 0L);
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] expected = {1, null, 2L, new BigDecimal("-12.345"), true, 1.5D, new byte[]{1, 2}, timestamp, LocalDate.of(2023, 1, 1), "中文"};
+        rows.add(new MemoryQueryResultRow(expected.clone()));
+        rows.spill();
+        MemoryQueryResultRow actual = rows.iterator().next();
+        assertThat(actual.getColumnCount(), is(expected.length));
+        for (int i = 0; i < expected.length; i++) {
+            if (null == expected[i]) {
+                assertNull(actual.getCell(i + 1));
+            } else {
+                assertThat(actual.getCell(i + 1), is(expected[i]));
+            }
+        }
+    }
+    
+    private long countSpillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(each -> each.getFileName().toString().startsWith("shardingsphere-merge-")).count();
+        }
+    }
+    
+    private List<Object> getFirstCells(final SpillableMemoryQueryResultRows rows) {
+        List<Object> result = new ArrayList<>();
+        for (MemoryQueryResultRow each : rows) {
+            result.add(each.getCell(1));
+        }
+        return result;
+    }
+}
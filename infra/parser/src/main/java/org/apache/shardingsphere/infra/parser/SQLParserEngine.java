@@ -17,8 +17,11 @@
 
 package org.apache.shardingsphere.infra.parser;
 
+import org.apache.shardingsphere.infra.parser.sql.ParameterizedSQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Optional;
+
 /**
  * SQL parser engine.
  */
@@ -32,4 +35,12 @@ public interface SQLParserEngine {
      * @return SQL statement
      */
     SQLStatement parse(String sql, boolean useCache);
+    
+    /**
+     * Parse to SQL statement with literals replaced by parameter markers.
+     *
+     * @param sql SQL to be parsed
+     * @return parameterized SQL statement, empty if SQL can not be parameterized
+     */
+    Optional<ParameterizedSQLStatement> parseParameterized(String sql);
 }
@@ -17,9 +17,12 @@
 
 package org.apache.shardingsphere.infra.parser;
 
+import org.apache.shardingsphere.infra.parser.sql.ParameterizedSQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SimpleSQLStatement;
 
+import java.util.Optional;
+
 /**
  * Simple SQL parser engine.
  */
@@ -29,4 +32,9 @@ public final class SimpleSQLParserEngine implements SQLParserEngine {
     public SQLStatement parse(final String sql, final boolean useCache) {
         return new SimpleSQLStatement();
     }
+    
+    @Override
+    public Optional<ParameterizedSQLStatement> parseParameterized(final String sql) {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parameterized SQL statement cache statistics.
+ */
+public final class ParameterizedSQLStatementCacheStatistics {
+    
+    private static final Map<String, ParameterizedSQLStatementCacheStatistics> STATISTICS = new ConcurrentHashMap<>();
+    
+    private final LongAdder hitCount = new LongAdder();
+    
+    private final LongAdder missCount = new LongAdder();
+    
+    /**
+     * Record parameterized parse result of database.
+     *
+     * @param databaseName database name
+     * @param cacheHit whether parsed SQL statement is from cache
+     */
+    public static void record(final String databaseName, final boolean cacheHit) {
+        ParameterizedSQLStatementCacheStatistics statistics = STATISTICS.computeIfAbsent(databaseName, key -> new ParameterizedSQLStatementCacheStatistics());
+        if (cacheHit) {
+            statistics.hitCount.increment();
+        } else {
+            statistics.missCount.increment();
+        }
+    }
+    
+    /**
+     * Get all statistics.
+     *
+     * @return database name and statistics map
+     */
+    public static Map<String, ParameterizedSQLStatementCacheStatistics> getAll() {
+        return Collections.unmodifiableMap(STATISTICS);
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+}
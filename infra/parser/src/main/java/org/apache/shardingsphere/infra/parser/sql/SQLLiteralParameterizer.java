@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL literal parameterizer.
+ * 
+ * <p>
+ * Replace string and number literals of DML SQL with parameter markers, so SQL which only differs in literals share the same parameterized SQL.
+ * Literals in projections, group by and order by are kept as they are, because replacing them changes the column labels or the meaning of column positions.
+ * Clause keywords are recognized by the tokens around them, so identifiers named like keywords do not change the clause, and the clause is tracked per parenthesis depth,
+ * so the clause of a subquery does not leak into the enclosing query.
+ * SQL which contains parameter markers, dollar signs, semicolons or backslashes is not parameterized.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLLiteralParameterizer {
+    
+    private static final Collection<String> DML_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE", "REPLACE"));
+    
+    private static final Collection<String> PARAMETERIZABLE_CLAUSE_KEYWORDS = new HashSet<>(Arrays.asList("WHERE", "VALUES", "VALUE", "SET", "LIMIT", "OFFSET"));
+    
+    private static final Collection<String> UNPARAMETERIZABLE_CLAUSE_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "ORDER", "GROUP", "RETURNING"));
+    
+    private static final String NON_KEYWORD_FOLLOWING_CHARS = ",).=<>!%|&^";
+    
+    /**
+     * Parameterize SQL.
+     *
+     * @param sql SQL to be parameterized
+     * @return parameterized SQL, empty if SQL is not DML or contains no parameterizable literal
+     */
+    public static Optional<ParameterizedSQL> parameterize(final String sql) {
+        if (sql.indexOf('?') >= 0 || sql.indexOf('$') >= 0 || sql.indexOf(';') >= 0 || sql.indexOf('\\') >= 0 || !isDML(sql)) {
+            return Optional.empty();
+        }
+        StringBuilder template = new StringBuilder(sql.length());
+        List<Object> parameters = new ArrayList<>();
+        Deque<Boolean> outerParameterizableStates = new LinkedList<>();
+        boolean parameterizable = false;
+        String previousToken = "";
+        int length = sql.length();
+        int index = 0;
+        while (index < length) {
+            char each = sql.charAt(index);
+            int end;
+            if (isCommentStart(sql, index)) {
+                end = skipComment(sql, index);
+            } else if (Character.isWhitespace(each)) {
+                end = index + 1;
+            } else if ('"' == each || '`' == each) {
+                end = skipQuoted(sql, index, each);
+                previousToken = String.valueOf(each);
+            } else if ('\'' == each) {
+                end = skipQuoted(sql, index, each);
+                if (end < 0) {
+                    return Optional.empty();
+                }
+                if (parameterizable && !isIdentifierPart(sql, index - 1)) {
+                    parameters.add(sql.substring(index + 1, end - 1).replace("''", "'"));
+                    template.append('?');
+                    previousToken = "?";
+                    index = end;
+                    continue;
+                }
+                previousToken = String.valueOf(each);
+            } else if (Character.isDigit(each) && !isIdentifierPart(sql, index - 1) && '.' != charAt(sql, index - 1)) {
+                end = skipNumber(sql, index);
+                previousToken = "?";
+                if (parameterizable && !isIdentifierPart(sql, end)) {
+                    parameters.add(new NumberLiteralValue(sql.substring(index, end)).getValue());
+                    template.append('?');
+                    index = end;
+                    continue;
+                }
+                end = skipIdentifier(sql, end);
+            } else if (isIdentifierPart(sql, index)) {
+                end = skipIdentifier(sql, index);
+                String word = sql.substring(index, end).toUpperCase();
+                if (isClauseKeyword(sql, word, previousToken, end)) {
+                    parameterizable = PARAMETERIZABLE_CLAUSE_KEYWORDS.contains(word);
+                }
+                previousToken = word;
+            } else {
+                end = index + 1;
+                if ('(' == each) {
+                    outerParameterizableStates.push(parameterizable);
+                } else if (')' == each && !outerParameterizableStates.isEmpty()) {
+                    parameterizable = outerParameterizableStates.pop();
+                }
+                previousToken = String.valueOf(each);
+            }
+            if (end < 0) {
+                return Optional.empty();
+            }
+            template.append(sql, index, end);
+            index = end;
+        }
+        return parameters.isEmpty() ? Optional.empty() : Optional.of(new ParameterizedSQL(template.toString(), parameters));
+    }
+    
+    private static boolean isClauseKeyword(final String sql, final String word, final String previousToken, final int end) {
+        if (!PARAMETERIZABLE_CLAUSE_KEYWORDS.contains(word) && !UNPARAMETERIZABLE_CLAUSE_KEYWORDS.contains(word) || ".".equals(previousToken) || "AS".equals(previousToken)) {
+            return false;
+        }
+        int nextTokenStart = skipWhitespacesAndComments(sql, end);
+        char nextChar = charAt(sql, nextTokenStart);
+        if ("VALUES".equals(word) || "VALUE".equals(word)) {
+            return '(' == nextChar || "ROW".equals(getWord(sql, nextTokenStart));
+        }
+        if (0 == nextChar || NON_KEYWORD_FOLLOWING_CHARS.indexOf(nextChar) >= 0) {
+            return false;
+        }
+        String nextWord = getWord(sql, nextTokenStart);
+        return !"FROM".equals(nextWord) && !"AS".equals(nextWord);
+    }
+    
+    private static int skipWhitespacesAndComments(final String sql, final int index) {
+        int result = index;
+        while (result >= 0 && result < sql.length() && (Character.isWhitespace(sql.charAt(result)) || isCommentStart(sql, result))) {
+            result = isCommentStart(sql, result) ? skipComment(sql, result) : result + 1;
+        }
+        return result;
+    }
+    
+    private static String getWord(final String sql, final int index) {
+        return index < 0 ? "" : sql.substring(index, skipIdentifier(sql, index)).toUpperCase();
+    }
+    
+    private static boolean isDML(final String sql) {
+        int index = 0;
+        while (index >= 0 && index < sql.length() && (Character.isWhitespace(sql.charAt(index)) || '(' == sql.charAt(index) || isCommentStart(sql, index))) {
+            index = isCommentStart(sql, index) ? skipComment(sql, index) : index + 1;
+        }
+        if (index < 0) {
+            return false;
+        }
+        int end = skipIdentifier(sql, index);
+        return DML_KEYWORDS.contains(sql.substring(index, end).toUpperCase());
+    }
+    
+    private static boolean isCommentStart(final String sql, final int index) {
+        char current = sql.charAt(index);
+        char next = charAt(sql, index + 1);
+        return '#' == current || '-' == current && '-' == next || '/' == current && '*' == next;
+    }
+    
+    private static int skipComment(final String sql, final int index) {
+        if ('/' == sql.charAt(index)) {
+            int end = sql.indexOf("*/", index + 2);
+            return end < 0 ? -1 : end + 2;
+        }
+        int end = sql.indexOf('\n', index);
+        return end < 0 ? sql.length() : end + 1;
+    }
+    
+    private static int skipQuoted(final String sql, final int index, final char quote) {
+        int result = index + 1;
+        while (result < sql.length()) {
+            if (quote == sql.charAt(result)) {
+                if (quote != charAt(sql, result + 1)) {
+                    return result + 1;
+                }
+                result++;
+            }
+            result++;
+        }
+        return -1;
+    }
+    
+    private static int skipNumber(final String sql, final int index) {
+        int result = skipDigits(sql, index);
+        if ('.' == charAt(sql, result) && Character.isDigit(charAt(sql, result + 1))) {
+            result = skipDigits(sql, result + 1);
+        }
+        char exponent = charAt(sql, result);
+        if ('e' == exponent || 'E' == exponent) {
+            int exponentStart = '+' == charAt(sql, result + 1) || '-' == charAt(sql, result + 1) ? result + 2 : result + 1;
+            if (Character.isDigit(charAt(sql, exponentStart))) {
+                result = skipDigits(sql, exponentStart);
+            }
+        }
+        return result;
+    }
+    
+    private static int skipDigits(final String sql, final int index) {
+        int result = index;
+        while (result < sql.length() && Character.isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int skipIdentifier(final String sql, final int index) {
+        int result = index;
+        while (isIdentifierPart(sql, result)) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static boolean isIdentifierPart(final String sql, final int index) {
+        char each = charAt(sql, index);
+        return Character.isLetterOrDigit(each) || '_' == each;
+    }
+    
+    private static char charAt(final String sql, final int index) {
+        return index >= 0 && index < sql.length() ? sql.charAt(index) : 0;
+    }
+}
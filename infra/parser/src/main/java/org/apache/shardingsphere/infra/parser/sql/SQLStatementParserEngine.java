@@ -17,10 +17,17 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
+
+import java.util.Optional;
 
 /**
  * SQL statement parser engine.
@@ -31,9 +38,12 @@ public final class SQLStatementParserEngine {
     
     private final LoadingCache<String, SQLStatement> sqlStatementCache;
     
+    private final Cache<String, Boolean> unparameterizableSQLCache;
+    
     public SQLStatementParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
         sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, isParseComment);
         sqlStatementCache = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment);
+        unparameterizableSQLCache = Caffeine.newBuilder().maximumSize(sqlStatementCacheOption.getMaximumSize()).build();
     }
     
     /**
@@ -46,4 +56,35 @@ public final class SQLStatementParserEngine {
     public SQLStatement parse(final String sql, final boolean useCache) {
         return useCache ? sqlStatementCache.get(sql) : sqlStatementParserExecutor.parse(sql);
     }
+    
+    /**
+     * Parse to SQL statement with literals replaced by parameter markers.
+     * 
+     * <p>
+     * SQL statements are cached by parameterized SQL, so SQL which only differs in literals are parsed once.
+     * </p>
+     *
+     * @param sql SQL to be parsed
+     * @return parameterized SQL statement, empty if SQL can not be parameterized
+     */
+    public Optional<ParameterizedSQLStatement> parseParameterized(final String sql) {
+        Optional<ParameterizedSQL> parameterizedSQL = SQLLiteralParameterizer.parameterize(sql);
+        if (!parameterizedSQL.isPresent() || null != unparameterizableSQLCache.getIfPresent(parameterizedSQL.get().getSql())) {
+            return Optional.empty();
+        }
+        String parameterizedSQLText = parameterizedSQL.get().getSql();
+        boolean cacheHit = null != sqlStatementCache.getIfPresent(parameterizedSQLText);
+        SQLStatement sqlStatement;
+        try {
+            sqlStatement = sqlStatementCache.get(parameterizedSQLText);
+        } catch (final SQLParsingException | ParseCancellationException ignored) {
+            unparameterizableSQLCache.put(parameterizedSQLText, Boolean.TRUE);
+            return Optional.empty();
+        }
+        if (!(sqlStatement instanceof DMLStatement) || sqlStatement.getParameterCount() != parameterizedSQL.get().getParameters().size()) {
+            unparameterizableSQLCache.put(parameterizedSQLText, Boolean.TRUE);
+            return Optional.empty();
+        }
+        return Optional.of(new ParameterizedSQLStatement(parameterizedSQLText, sqlStatement, parameterizedSQL.get().getParameters(), cacheHit));
+    }
 }
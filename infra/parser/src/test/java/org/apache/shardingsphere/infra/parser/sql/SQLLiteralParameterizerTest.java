@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLLiteralParameterizerTest {
+    
+    @Test
+    void assertParameterizeSelect() {
+        Optional<ParameterizedSQL> actual = SQLLiteralParameterizer.parameterize("SELECT 1, name FROM t_order WHERE order_id = 10 AND status = 'it''s' ORDER BY 1 LIMIT 5");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT 1, name FROM t_order WHERE order_id = ? AND status = ? ORDER BY 1 LIMIT ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10, "it's", 5)));
+    }
+    
+    @Test
+    void assertParameterizeInsert() {
+        Optional<ParameterizedSQL> actual = SQLLiteralParameterizer.parameterize("INSERT INTO t_order_2 (order_id, price) VALUES (1, 2.5), (3, 1e3)");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order_2 (order_id, price) VALUES (?, ?), (?, ?)"));
+        assertThat(actual.get().getParameters().size(), is(4));
+    }
+    
+    @Test
+    void assertParameterizeUpdateWithComment() {
+        Optional<ParameterizedSQL> actual = SQLLiteralParameterizer.parameterize("/* 'keep' 1 */ UPDATE t_order SET status = 'OK' WHERE `col_1` = 2");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("/* 'keep' 1 */ UPDATE t_order SET status = ? WHERE `col_1` = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList("OK", 2)));
+    }
+    
+    @Test
+    void assertParameterizeWithHexLiteral() {
+        Optional<ParameterizedSQL> actual = SQLLiteralParameterizer.parameterize("SELECT * FROM t_order WHERE flag = x'01' AND user_id = 1");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE flag = x'01' AND user_id = ?"));
+    }
+    
+    @Test
+    void assertParameterizeWithSubquery() {
+        Optional<ParameterizedSQL> actual = SQLLiteralParameterizer.parameterize("SELECT (SELECT MAX(id) FROM t_order_item WHERE status = 1), 'x' FROM t_order WHERE name = 'y'");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT (SELECT MAX(id) FROM t_order_item WHERE status = ?), 'x' FROM t_order WHERE name = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, "y")));
+    }
+    
+    @Test
+    void assertParameterizeWithSubqueryInWhere() {
+        Optional<ParameterizedSQL> actual = SQLLiteralParameterizer.parameterize("SELECT * FROM t_order WHERE order_id IN (SELECT order_id FROM t_order_item) AND status = 'OK'");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id IN (SELECT order_id FROM t_order_item) AND status = ?"));
+        assertThat(actual.get().getParameters(), is(Collections.<Object>singletonList("OK")));
+    }
+    
+    @Test
+    void assertParameterizeWithIdentifiersNamedLikeKeywords() {
+        Optional<ParameterizedSQL> actual = SQLLiteralParameterizer.parameterize("SELECT value, 'x', t.offset FROM t_order t WHERE value = 1 ORDER BY value LIMIT 5");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT value, 'x', t.offset FROM t_order t WHERE value = ? ORDER BY value LIMIT ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 5)));
+    }
+    
+    @Test
+    void assertNotParameterizeProjectionAfterIdentifierNamedLikeKeyword() {
+        assertFalse(SQLLiteralParameterizer.parameterize("SELECT value, 'x' FROM t").isPresent());
+    }
+    
+    @Test
+    void assertNotParameterizeWithParameterMarker() {
+        assertFalse(SQLLiteralParameterizer.parameterize("SELECT * FROM t_order WHERE order_id = ? AND user_id = 1").isPresent());
+    }
+    
+    @Test
+    void assertNotParameterizeMultiStatements() {
+        assertFalse(SQLLiteralParameterizer.parameterize("DELETE FROM t_order WHERE order_id = 1; DELETE FROM t_order WHERE order_id = 2").isPresent());
+    }
+    
+    @Test
+    void assertNotParameterizeWithBackslash() {
+        assertFalse(SQLLiteralParameterizer.parameterize("SELECT * FROM t_order WHERE status = 'a\\'b'").isPresent());
+    }
+    
+    @Test
+    void assertNotParameterizeNonDML() {
+        assertFalse(SQLLiteralParameterizer.parameterize("SHOW TABLES LIKE 't_order'").isPresent());
+    }
+    
+    @Test
+    void assertNotParameterizeWithoutLiteral() {
+        assertFalse(SQLLiteralParameterizer.parameterize("SELECT 1 FROM t_order ORDER BY 1").isPresent());
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.SQLRewriteTemplate;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.SQLTokenGenerator;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.SQLTokenGenerators;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.builder.DefaultTokenGeneratorBuilder;
@@ -62,6 +63,9 @@ public final class SQLRewriteContext {
     
     private final ConnectionContext connectionContext;
     
+    @Getter(AccessLevel.NONE)
+    private SQLRewriteTemplate sqlRewriteTemplate;
+    
     public SQLRewriteContext(final String databaseName, final Map<String, ShardingSphereSchema> schemas,
                              final SQLStatementContext<?> sqlStatementContext, final String sql, final List<Object> params, final ConnectionContext connectionContext) {
         this.databaseName = databaseName;
@@ -94,4 +98,20 @@ public final class SQLRewriteContext {
     public void generateSQLTokens() {
         sqlTokens.addAll(sqlTokenGenerators.generateSQLTokens(databaseName, schemas, sqlStatementContext, parameters, connectionContext));
     }
+    
+    /**
+     * Get SQL rewrite template.
+     *
+     * <p>
+     * The template is compiled with SQL tokens at the first call, and compiled again only if SQL tokens are changed after that.
+     * </p>
+     *
+     * @return SQL rewrite template
+     */
+    public SQLRewriteTemplate getSQLRewriteTemplate() {
+        if (null == sqlRewriteTemplate || sqlRewriteTemplate.getSqlTokens().size() != sqlTokens.size()) {
+            sqlRewriteTemplate = new SQLRewriteTemplate(sql, sqlTokens);
+        }
+        return sqlRewriteTemplate;
+    }
 }
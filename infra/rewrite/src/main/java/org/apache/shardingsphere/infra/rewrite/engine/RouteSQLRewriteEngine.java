@@ -72,7 +72,11 @@ public final class RouteSQLRewriteEngine {
                 addSQLRewriteUnits(sqlRewriteUnits, sqlRewriteContext, routeContext, routeUnits);
             }
         }
-        return new RouteSQLRewriteResult(translate(sqlRewriteContext.getSqlStatementContext().getSqlStatement(), sqlRewriteUnits));
+        return new RouteSQLRewriteResult(translate(sqlRewriteContext.getSqlStatementContext().getSqlStatement(), sqlRewriteUnits), isParametersRewritten(sqlRewriteContext.getParameterBuilder()));
+    }
+    
+    private boolean isParametersRewritten(final ParameterBuilder paramBuilder) {
+        return !(paramBuilder instanceof StandardParameterBuilder) || ((StandardParameterBuilder) paramBuilder).isRewritten();
     }
     
     private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
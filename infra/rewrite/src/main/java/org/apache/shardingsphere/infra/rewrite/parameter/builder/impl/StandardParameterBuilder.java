@@ -63,6 +63,15 @@ public final class StandardParameterBuilder implements ParameterBuilder {
         replacedIndexAndParameters.put(index, param);
     }
     
+    /**
+     * Judge whether original parameters are rewritten.
+     *
+     * @return original parameters are rewritten or not
+     */
+    public boolean isRewritten() {
+        return !addedIndexAndParameters.isEmpty() || !replacedIndexAndParameters.isEmpty();
+    }
+    
     @Override
     public List<Object> getParameters() {
         List<Object> replacedParams = new ArrayList<>(originalParameters);
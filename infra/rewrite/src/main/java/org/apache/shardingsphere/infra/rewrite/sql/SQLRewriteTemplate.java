@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL rewrite template.
+ *
+ * <p>
+ * Original SQL and its SQL tokens are compiled once into literal fragments and sorted token slots,
+ * so SQL of every route unit is built in one linear pass.
+ * </p>
+ */
+public final class SQLRewriteTemplate {
+    
+    private final String sql;
+    
+    @Getter
+    private final List<SQLToken> sqlTokens;
+    
+    @Getter
+    private final String prefix;
+    
+    private final String[] conjunctions;
+    
+    private int lastSQLLength;
+    
+    public SQLRewriteTemplate(final String sql, final Collection<SQLToken> sqlTokens) {
+        this.sql = sql;
+        this.sqlTokens = new ArrayList<>(sqlTokens);
+        Collections.sort(this.sqlTokens);
+        prefix = this.sqlTokens.isEmpty() ? sql : sql.substring(0, this.sqlTokens.get(0).getStartIndex());
+        conjunctions = new String[this.sqlTokens.size()];
+        for (int i = 0; i < conjunctions.length; i++) {
+            int stopIndex = conjunctions.length - 1 == i ? sql.length() : this.sqlTokens.get(i + 1).getStartIndex();
+            conjunctions[i] = sql.substring(getStartIndex(this.sqlTokens.get(i)), stopIndex);
+        }
+        lastSQLLength = sql.length();
+    }
+    
+    /**
+     * Get conjunction text after SQL token slot.
+     *
+     * @param tokenIndex index of SQL token slot
+     * @return conjunction text
+     */
+    public String getConjunctionText(final int tokenIndex) {
+        return conjunctions[tokenIndex];
+    }
+    
+    /**
+     * Get conjunction text after SQL token which is not a slot of template, such as SQL token composed by another one.
+     *
+     * @param sqlToken SQL token
+     * @return conjunction text
+     */
+    public String getConjunctionText(final SQLToken sqlToken) {
+        int stopIndex = sqlTokens.isEmpty() ? sql.length() : sqlTokens.get(0).getStartIndex();
+        return sql.substring(getStartIndex(sqlToken), stopIndex);
+    }
+    
+    private int getStartIndex(final SQLToken sqlToken) {
+        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+        return Math.min(startIndex, sql.length());
+    }
+    
+    /**
+     * Create SQL buffer sized by the last built SQL.
+     *
+     * @return SQL buffer
+     */
+    public StringBuilder createSQLBuffer() {
+        return new StringBuilder(lastSQLLength);
+    }
+    
+    /**
+     * Record length of built SQL to size next SQL buffer.
+     *
+     * @param sqlLength length of built SQL
+     */
+    public void recordSQLLength(final int sqlLength) {
+        lastSQLLength = sqlLength;
+    }
+}
@@ -24,6 +24,8 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class StandardParameterBuilderTest {
     
@@ -33,4 +35,16 @@ class StandardParameterBuilderTest {
         paramBuilder.addAddedParameters(4, Collections.singleton(7));
         assertThat(paramBuilder.getParameters(), is(Arrays.<Object>asList(1, 2, 1, 5, 7)));
     }
+    
+    @Test
+    void assertIsRewrittenWithoutAddedAndReplacedParameters() {
+        assertFalse(new StandardParameterBuilder(Arrays.asList(1, 2)).isRewritten());
+    }
+    
+    @Test
+    void assertIsRewrittenWithReplacedParameters() {
+        StandardParameterBuilder paramBuilder = new StandardParameterBuilder(Arrays.asList(1, 2));
+        paramBuilder.addReplacedParameters(1, 3);
+        assertTrue(paramBuilder.isRewritten());
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql;
+
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SQLRewriteTemplateTest {
+    
+    @Test
+    void assertNewInstanceWithUnsortedSQLTokens() {
+        SQLToken firstSQLToken = new SQLTokenFixture(7, 7);
+        SQLToken secondSQLToken = new SQLTokenFixture(14, 16);
+        SQLRewriteTemplate actual = new SQLRewriteTemplate("SELECT * FROM tbl WHERE id=?", Arrays.asList(secondSQLToken, firstSQLToken));
+        assertThat(actual.getSqlTokens(), is(Arrays.asList(firstSQLToken, secondSQLToken)));
+        assertThat(actual.getPrefix(), is("SELECT "));
+        assertThat(actual.getConjunctionText(0), is(" FROM "));
+        assertThat(actual.getConjunctionText(1), is(" WHERE id=?"));
+    }
+    
+    @Test
+    void assertGetConjunctionTextWithMultiRowInsertValues() {
+        List<SQLToken> sqlTokens = Arrays.asList(new SQLTokenFixture(28, 30), new SQLTokenFixture(33, 35), new SQLTokenFixture(38, 40));
+        SQLRewriteTemplate actual = new SQLRewriteTemplate("INSERT INTO tbl (id) VALUES (?), (?), (?)", sqlTokens);
+        assertThat(actual.getPrefix(), is("INSERT INTO tbl (id) VALUES "));
+        assertThat(actual.getConjunctionText(0), is(", "));
+        assertThat(actual.getConjunctionText(1), is(", "));
+        assertThat(actual.getConjunctionText(2), is(""));
+    }
+    
+    @Test
+    void assertCreateSQLBufferWithRecordedSQLLength() {
+        SQLRewriteTemplate actual = new SQLRewriteTemplate("SELECT * FROM tbl", Arrays.asList(new SQLTokenFixture(14, 16)));
+        actual.recordSQLLength(64);
+        assertThat(actual.createSQLBuffer().capacity(), is(64));
+    }
+}
@@ -18,10 +18,13 @@
 package org.apache.shardingsphere.infra.rewrite.sql.impl;
 
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.SQLRewriteTemplate;
 import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -41,8 +44,10 @@ class DefaultSQLBuilderTest {
     @Test
     void assertToSQLWithSQLToken() {
         SQLRewriteContext context = mock(SQLRewriteContext.class);
+        List<SQLToken> sqlTokens = Collections.singletonList(new SQLTokenFixture(14, 16));
         when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id=?");
-        when(context.getSqlTokens()).thenReturn(Collections.singletonList(new SQLTokenFixture(14, 16)));
+        when(context.getSqlTokens()).thenReturn(sqlTokens);
+        when(context.getSQLRewriteTemplate()).thenReturn(new SQLRewriteTemplate("SELECT * FROM tbl WHERE id=?", sqlTokens));
         assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT * FROM XXX WHERE id=?"));
     }
 }
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.driver.executor;
 import org.apache.shardingsphere.driver.executor.callback.ExecuteQueryCallback;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.refresher.MetaDataRefreshEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -72,7 +74,10 @@ public final class DriverJDBCExecutor {
         ExecuteProcessEngine executeProcessEngine = new ExecuteProcessEngine();
         try {
             executeProcessEngine.initializeExecution(executionGroupContext, queryContext);
-            return jdbcExecutor.execute(executionGroupContext, callback);
+            ConfigurationProperties props = metaDataContexts.getMetaData().getProps();
+            return props.<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_COMPLETION_ORDERED_ENABLED)
+                    ? jdbcExecutor.executeInCompletionOrder(executionGroupContext, null, callback, props.<Long>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_QUERY_TIMEOUT_MILLISECONDS))
+                    : jdbcExecutor.execute(executionGroupContext, callback);
         } finally {
             executeProcessEngine.cleanExecution();
         }
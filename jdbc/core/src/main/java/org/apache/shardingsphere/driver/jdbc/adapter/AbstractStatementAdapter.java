@@ -181,6 +181,7 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     public final void close() throws SQLException {
         closed = true;
         try {
+            closeCurrentResultSet();
             forceExecuteTemplate.execute((Collection) getRoutedStatements(), Statement::close);
             if (null != getExecutor()) {
                 getExecutor().close();
@@ -209,4 +210,6 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     protected abstract DriverExecutor getExecutor();
     
     protected abstract StatementManager getStatementManager();
+    
+    protected abstract void closeCurrentResultSet() throws SQLException;
 }
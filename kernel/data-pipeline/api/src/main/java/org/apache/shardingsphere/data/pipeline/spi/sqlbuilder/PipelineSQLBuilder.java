@@ -179,6 +179,17 @@ public interface PipelineSQLBuilder extends TypedSPI {
      */
     String buildSplitByPrimaryKeyRangeSQL(String schemaName, String tableName, String uniqueKey);
     
+    /**
+     * Build split by unique key range SQL, which query minimum value, maximum value and records count of next range.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param firstQuery first query
+     * @return split SQL
+     */
+    String buildSplitByUniqueKeyRangeSQL(String schemaName, String tableName, String uniqueKey, boolean firstQuery);
+    
     /**
      * Build CRC32 SQL.
      *
@@ -190,4 +201,17 @@ public interface PipelineSQLBuilder extends TypedSPI {
     default Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String column) {
         return Optional.empty();
     }
+    
+    /**
+     * Build unique key range CRC32 SQL, which query checksum, records count, min and max unique key value of records whose unique key is between the two parameters.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param columnNames column names
+     * @param uniqueKey unique key
+     * @return unique key range CRC32 SQL
+     */
+    default Optional<String> buildUniqueKeyRangeCRC32SQL(final String schemaName, final String tableName, final List<String> columnNames, final String uniqueKey) {
+        return Optional.empty();
+    }
 }
@@ -62,5 +62,16 @@ public final class DataConsistencyCalculateParameter {
      */
     private volatile AutoCloseable calculationContext;
     
+    /**
+     * Unique key ranges shared by source side and target side.
+     * It could be null, then every side splits unique key ranges by itself.
+     */
+    private volatile SharedUniqueKeyRanges sharedUniqueKeyRanges;
+    
+    /**
+     * Whether unique key ranges are split by this side and offered to shared unique key ranges, otherwise they are polled from shared unique key ranges.
+     */
+    private volatile boolean uniqueKeyRangesSplitter;
+    
     private final Object tableCheckPosition;
 }
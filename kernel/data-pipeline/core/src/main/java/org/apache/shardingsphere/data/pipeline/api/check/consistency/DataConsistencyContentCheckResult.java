@@ -21,6 +21,9 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.Collection;
+import java.util.Collections;
+
 /**
  * Data consistency content check result.
  */
@@ -30,4 +33,13 @@ import lombok.ToString;
 public final class DataConsistencyContentCheckResult {
     
     private final boolean matched;
+    
+    /**
+     * Mismatched unique key ranges, it's empty if the calculate algorithm could not locate mismatched records.
+     */
+    private final Collection<String> mismatchedRanges;
+    
+    public DataConsistencyContentCheckResult(final boolean matched) {
+        this(matched, Collections.emptyList());
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.api.check.consistency;
+
+import com.google.common.collect.Range;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unique key ranges shared by source side and target side.
+ *
+ * <p>
+ * The splitting side offers unique key ranges in order, and the other side polls them in the same order, so both sides are calculated by the same ranges.
+ * </p>
+ */
+public final class SharedUniqueKeyRanges {
+    
+    private final BlockingQueue<Range<Long>> ranges = new LinkedBlockingQueue<>();
+    
+    /**
+     * Offer unique key range.
+     *
+     * @param beginUniqueKeyValue begin value of unique key range, inclusive
+     * @param endUniqueKeyValue end value of unique key range, inclusive
+     */
+    public void offer(final long beginUniqueKeyValue, final long endUniqueKeyValue) {
+        ranges.add(Range.closed(beginUniqueKeyValue, endUniqueKeyValue));
+    }
+    
+    /**
+     * Poll unique key range.
+     *
+     * @param timeout timeout
+     * @param timeUnit time unit of timeout
+     * @return unique key range, null if timeout
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Range<Long> poll(final long timeout, final TimeUnit timeUnit) throws InterruptedException {
+        return ranges.poll(timeout, timeUnit);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.api.check.consistency;
+
+import java.util.Collection;
+
+/**
+ * Data consistency calculated result of unique key range.
+ *
+ * <p>
+ * Both sides are calculated by the same unique key ranges, so source and target results are paired by range even if a range is absent on one side,
+ * and checking could continue after mismatched.
+ * </p>
+ */
+public interface UniqueKeyRangeDataConsistencyCalculatedResult extends DataConsistencyCalculatedResult {
+    
+    /**
+     * Get begin value of unique key range, inclusive.
+     *
+     * @return begin value of unique key range
+     */
+    long getBeginUniqueKeyValue();
+    
+    /**
+     * Get end value of unique key range, inclusive.
+     *
+     * @return end value of unique key range
+     */
+    long getEndUniqueKeyValue();
+    
+    /**
+     * Find mismatched unique key ranges.
+     *
+     * @param peer calculated result of the same unique key range on peer side
+     * @param maxSize max size of mismatched unique key ranges to be located, the rest are reported as a whole range
+     * @return mismatched unique key ranges
+     */
+    Collection<String> findMismatchedRanges(UniqueKeyRangeDataConsistencyCalculatedResult peer, int maxSize);
+}
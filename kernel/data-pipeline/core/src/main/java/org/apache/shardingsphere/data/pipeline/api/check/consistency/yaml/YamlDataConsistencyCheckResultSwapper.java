@@ -27,6 +27,8 @@ import org.apache.shardingsphere.data.pipeline.api.check.consistency.yaml.YamlDa
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
 import org.apache.shardingsphere.infra.util.yaml.swapper.YamlConfigurationSwapper;
 
+import java.util.ArrayList;
+
 /**
  * Yaml data consistency check result swapper.
  */
@@ -46,6 +48,9 @@ public final class YamlDataConsistencyCheckResultSwapper implements YamlConfigur
         result.setCountCheckResult(countCheckResult);
         YamlDataConsistencyContentCheckResult contentCheckResult = new YamlDataConsistencyContentCheckResult();
         contentCheckResult.setMatched(data.getContentCheckResult().isMatched());
+        if (!data.getContentCheckResult().getMismatchedRanges().isEmpty()) {
+            contentCheckResult.setMismatchedRanges(new ArrayList<>(data.getContentCheckResult().getMismatchedRanges()));
+        }
         result.setContentCheckResult(contentCheckResult);
         return result;
     }
@@ -60,7 +65,10 @@ public final class YamlDataConsistencyCheckResultSwapper implements YamlConfigur
         }
         YamlDataConsistencyCountCheckResult yamlCountCheck = yamlConfig.getCountCheckResult();
         DataConsistencyCountCheckResult countCheckResult = new DataConsistencyCountCheckResult(yamlCountCheck.getSourceRecordsCount(), yamlCountCheck.getTargetRecordsCount());
-        DataConsistencyContentCheckResult contentCheckResult = new DataConsistencyContentCheckResult(yamlConfig.getContentCheckResult().isMatched());
+        YamlDataConsistencyContentCheckResult yamlContentCheck = yamlConfig.getContentCheckResult();
+        DataConsistencyContentCheckResult contentCheckResult = null == yamlContentCheck.getMismatchedRanges()
+                ? new DataConsistencyContentCheckResult(yamlContentCheck.isMatched())
+                : new DataConsistencyContentCheckResult(yamlContentCheck.isMatched(), yamlContentCheck.getMismatchedRanges());
         return new DataConsistencyCheckResult(countCheckResult, contentCheckResult);
     }
     
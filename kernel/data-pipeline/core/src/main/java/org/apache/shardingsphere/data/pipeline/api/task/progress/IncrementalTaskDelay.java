@@ -23,6 +23,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Incremental task delay.
  */
@@ -36,4 +39,6 @@ public final class IncrementalTaskDelay {
     private long lastEventTimestamps;
     
     private long latestActiveTimeMillis;
+    
+    private List<Long> workerAppliedRecordsCounts = new ArrayList<>();
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.check.consistency;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
@@ -24,6 +25,8 @@ import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsist
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyContentCheckResult;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCountCheckResult;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.SharedUniqueKeyRanges;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.UniqueKeyRangeDataConsistencyCalculatedResult;
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
 import org.apache.shardingsphere.data.pipeline.api.job.progress.listener.PipelineJobProgressUpdatedParameter;
@@ -37,10 +40,14 @@ import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFact
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.wrapper.SQLWrapperException;
 
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -55,6 +62,8 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public final class SingleTableInventoryDataConsistencyChecker {
     
+    private static final int MAX_MISMATCHED_RANGES_SIZE = 100;
+    
     private final String jobId;
     
     private final PipelineDataSourceWrapper sourceDataSource;
@@ -101,8 +110,14 @@ public final class SingleTableInventoryDataConsistencyChecker {
         String targetTableName = targetTable.getTableName().getOriginal();
         DataConsistencyCalculateParameter targetParam = buildParameter(targetDataSource, targetTable.getSchemaName().getOriginal(), targetTableName,
                 columnNames, targetDatabaseType, sourceDatabaseType, uniqueKey, tableCheckPositions.get(targetTableName));
-        Iterator<DataConsistencyCalculatedResult> sourceCalculatedResults = waitFuture(executor.submit(() -> calculateAlgorithm.calculate(sourceParam))).iterator();
-        Iterator<DataConsistencyCalculatedResult> targetCalculatedResults = waitFuture(executor.submit(() -> calculateAlgorithm.calculate(targetParam))).iterator();
+        SharedUniqueKeyRanges sharedUniqueKeyRanges = new SharedUniqueKeyRanges();
+        sourceParam.setSharedUniqueKeyRanges(sharedUniqueKeyRanges);
+        sourceParam.setUniqueKeyRangesSplitter(true);
+        targetParam.setSharedUniqueKeyRanges(sharedUniqueKeyRanges);
+        Future<Iterable<DataConsistencyCalculatedResult>> sourceFuture = executor.submit(() -> calculateAlgorithm.calculate(sourceParam));
+        Future<Iterable<DataConsistencyCalculatedResult>> targetFuture = executor.submit(() -> calculateAlgorithm.calculate(targetParam));
+        Iterator<DataConsistencyCalculatedResult> sourceCalculatedResults = waitFuture(sourceFuture).iterator();
+        Iterator<DataConsistencyCalculatedResult> targetCalculatedResults = waitFuture(targetFuture).iterator();
         try {
             return check0(sourceCalculatedResults, targetCalculatedResults, executor);
             // CHECKSTYLE:OFF
@@ -123,28 +138,95 @@ public final class SingleTableInventoryDataConsistencyChecker {
         long sourceRecordsCount = 0;
         long targetRecordsCount = 0;
         boolean contentMatched = true;
-        while (sourceCalculatedResults.hasNext() && targetCalculatedResults.hasNext()) {
+        Collection<String> mismatchedRanges = new LinkedList<>();
+        CalculatedResultCursor sourceCursor = new CalculatedResultCursor(sourceCalculatedResults);
+        CalculatedResultCursor targetCursor = new CalculatedResultCursor(targetCalculatedResults);
+        while (true) {
             if (null != readRateLimitAlgorithm) {
                 readRateLimitAlgorithm.intercept(JobOperationType.SELECT, 1);
             }
-            DataConsistencyCalculatedResult sourceCalculatedResult = waitFuture(executor.submit(sourceCalculatedResults::next));
-            DataConsistencyCalculatedResult targetCalculatedResult = waitFuture(executor.submit(targetCalculatedResults::next));
-            sourceRecordsCount += sourceCalculatedResult.getRecordsCount();
-            targetRecordsCount += targetCalculatedResult.getRecordsCount();
-            contentMatched = Objects.equals(sourceCalculatedResult, targetCalculatedResult);
-            if (!contentMatched) {
-                log.info("content matched false, jobId={}, sourceTable={}, targetTable={}, uniqueKey={}", jobId, sourceTable, targetTable, uniqueKey);
-                break;
+            // Source and target are calculated at the same time, since calculation of streaming algorithms is triggered by hasNext
+            Future<?> sourceFuture = sourceCursor.isFetchRequired() ? executor.submit(sourceCursor::fetch) : null;
+            Future<?> targetFuture = targetCursor.isFetchRequired() ? executor.submit(targetCursor::fetch) : null;
+            waitFuture(sourceFuture);
+            waitFuture(targetFuture);
+            DataConsistencyCalculatedResult sourceCalculatedResult = sourceCursor.getCurrent();
+            DataConsistencyCalculatedResult targetCalculatedResult = targetCursor.getCurrent();
+            if (sourceCalculatedResult instanceof UniqueKeyRangeDataConsistencyCalculatedResult || targetCalculatedResult instanceof UniqueKeyRangeDataConsistencyCalculatedResult) {
+                Optional<Collection<String>> rangeMismatchedRanges = checkUniqueKeyRange(sourceCursor, targetCursor, mismatchedRanges);
+                if (rangeMismatchedRanges.isPresent()) {
+                    contentMatched = false;
+                    addMismatchedRanges(mismatchedRanges, rangeMismatchedRanges.get());
+                }
+            } else {
+                if (null == sourceCalculatedResult || null == targetCalculatedResult) {
+                    break;
+                }
+                sourceCursor.consume();
+                targetCursor.consume();
+                contentMatched = Objects.equals(sourceCalculatedResult, targetCalculatedResult);
+                if (!contentMatched) {
+                    log.info("content matched false, jobId={}, sourceTable={}, targetTable={}, uniqueKey={}", jobId, sourceTable, targetTable, uniqueKey);
+                    sourceRecordsCount += sourceCalculatedResult.getRecordsCount();
+                    targetRecordsCount += targetCalculatedResult.getRecordsCount();
+                    break;
+                }
             }
-            if (sourceCalculatedResult.getMaxUniqueKeyValue().isPresent()) {
-                progressContext.getTableCheckPositions().put(sourceTable.getTableName().getOriginal(), sourceCalculatedResult.getMaxUniqueKeyValue().get());
+            sourceRecordsCount += sourceCursor.getConsumedRecordsCount();
+            targetRecordsCount += targetCursor.getConsumedRecordsCount();
+            updateCheckPosition(sourceTable, sourceCursor);
+            updateCheckPosition(targetTable, targetCursor);
+            progressContext.onProgressUpdated(new PipelineJobProgressUpdatedParameter(sourceCursor.getConsumedRecordsCount()));
+            if (sourceCursor.isFinished() && targetCursor.isFinished()) {
+                break;
             }
-            if (targetCalculatedResult.getMaxUniqueKeyValue().isPresent()) {
-                progressContext.getTableCheckPositions().put(targetTable.getTableName().getOriginal(), targetCalculatedResult.getMaxUniqueKeyValue().get());
+        }
+        return new DataConsistencyCheckResult(new DataConsistencyCountCheckResult(sourceRecordsCount, targetRecordsCount), new DataConsistencyContentCheckResult(contentMatched, mismatchedRanges));
+    }
+    
+    private Optional<Collection<String>> checkUniqueKeyRange(final CalculatedResultCursor sourceCursor, final CalculatedResultCursor targetCursor, final Collection<String> mismatchedRanges) {
+        UniqueKeyRangeDataConsistencyCalculatedResult sourceCalculatedResult = (UniqueKeyRangeDataConsistencyCalculatedResult) sourceCursor.getCurrent();
+        UniqueKeyRangeDataConsistencyCalculatedResult targetCalculatedResult = (UniqueKeyRangeDataConsistencyCalculatedResult) targetCursor.getCurrent();
+        if (null == sourceCalculatedResult && null == targetCalculatedResult) {
+            return Optional.empty();
+        }
+        if (null == targetCalculatedResult || null != sourceCalculatedResult && sourceCalculatedResult.getBeginUniqueKeyValue() < targetCalculatedResult.getBeginUniqueKeyValue()) {
+            sourceCursor.consume();
+            log.info("unique key range only exists in source, jobId={}, sourceTable={}, range=[{}, {}]",
+                    jobId, sourceTable, sourceCalculatedResult.getBeginUniqueKeyValue(), sourceCalculatedResult.getEndUniqueKeyValue());
+            return Optional.of(Collections.singletonList(String.format("[%d, %d]", sourceCalculatedResult.getBeginUniqueKeyValue(), sourceCalculatedResult.getEndUniqueKeyValue())));
+        }
+        if (null == sourceCalculatedResult || targetCalculatedResult.getBeginUniqueKeyValue() < sourceCalculatedResult.getBeginUniqueKeyValue()) {
+            targetCursor.consume();
+            log.info("unique key range only exists in target, jobId={}, targetTable={}, range=[{}, {}]",
+                    jobId, targetTable, targetCalculatedResult.getBeginUniqueKeyValue(), targetCalculatedResult.getEndUniqueKeyValue());
+            return Optional.of(Collections.singletonList(String.format("[%d, %d]", targetCalculatedResult.getBeginUniqueKeyValue(), targetCalculatedResult.getEndUniqueKeyValue())));
+        }
+        sourceCursor.consume();
+        targetCursor.consume();
+        if (Objects.equals(sourceCalculatedResult, targetCalculatedResult)) {
+            return Optional.empty();
+        }
+        Collection<String> result = sourceCalculatedResult.findMismatchedRanges(targetCalculatedResult, Math.max(MAX_MISMATCHED_RANGES_SIZE - mismatchedRanges.size(), 0));
+        log.info("content matched false, jobId={}, sourceTable={}, targetTable={}, uniqueKey={}, mismatchedRanges={}", jobId, sourceTable, targetTable, uniqueKey, result);
+        return Optional.of(result);
+    }
+    
+    private void addMismatchedRanges(final Collection<String> mismatchedRanges, final Collection<String> toBeAddedMismatchedRanges) {
+        for (String each : toBeAddedMismatchedRanges) {
+            if (mismatchedRanges.size() >= MAX_MISMATCHED_RANGES_SIZE) {
+                log.warn("Mismatched ranges exceed {}, the rest are ignored, jobId={}, sourceTable={}", MAX_MISMATCHED_RANGES_SIZE, jobId, sourceTable);
+                return;
             }
-            progressContext.onProgressUpdated(new PipelineJobProgressUpdatedParameter(sourceCalculatedResult.getRecordsCount()));
+            mismatchedRanges.add(each);
+        }
+    }
+    
+    private void updateCheckPosition(final SchemaTableName table, final CalculatedResultCursor cursor) {
+        Optional<Object> maxUniqueKeyValue = cursor.getConsumedMaxUniqueKeyValue();
+        if (maxUniqueKeyValue.isPresent()) {
+            progressContext.getTableCheckPositions().put(table.getTableName().getOriginal(), maxUniqueKeyValue.get());
         }
-        return new DataConsistencyCheckResult(new DataConsistencyCountCheckResult(sourceRecordsCount, targetRecordsCount), new DataConsistencyContentCheckResult(contentMatched));
     }
     
     // TODO use digest (crc32, murmurhash)
@@ -160,6 +242,9 @@ public final class SingleTableInventoryDataConsistencyChecker {
     }
     
     private <T> T waitFuture(final Future<T> future) {
+        if (null == future) {
+            return null;
+        }
         try {
             return future.get();
         } catch (final InterruptedException | ExecutionException ex) {
@@ -169,4 +254,44 @@ public final class SingleTableInventoryDataConsistencyChecker {
             throw new SQLWrapperException(new SQLException(ex));
         }
     }
+    
+    @RequiredArgsConstructor
+    private static final class CalculatedResultCursor {
+        
+        private final Iterator<DataConsistencyCalculatedResult> calculatedResults;
+        
+        @Getter
+        private volatile DataConsistencyCalculatedResult current;
+        
+        @Getter
+        private volatile boolean finished;
+        
+        private boolean consumed = true;
+        
+        private boolean fetchRequired = true;
+        
+        boolean isFetchRequired() {
+            return fetchRequired && !finished;
+        }
+        
+        void fetch() {
+            current = calculatedResults.hasNext() ? calculatedResults.next() : null;
+            finished = null == current;
+            consumed = false;
+            fetchRequired = false;
+        }
+        
+        void consume() {
+            consumed = true;
+            fetchRequired = true;
+        }
+        
+        int getConsumedRecordsCount() {
+            return consumed && null != current ? current.getRecordsCount() : 0;
+        }
+        
+        Optional<Object> getConsumedMaxUniqueKeyValue() {
+            return consumed && null != current ? current.getMaxUniqueKeyValue() : Optional.empty();
+        }
+    }
 }
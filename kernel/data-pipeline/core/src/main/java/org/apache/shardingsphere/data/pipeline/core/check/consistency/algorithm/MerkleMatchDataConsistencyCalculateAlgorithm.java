@@ -0,0 +1,403 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import com.google.common.collect.Range;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.UniqueKeyRangeDataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineSQLException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.UnsupportedCRC32DataConsistencyCalculateAlgorithmException;
+import org.apache.shardingsphere.data.pipeline.core.util.CloseUtils;
+import org.apache.shardingsphere.data.pipeline.core.util.DatabaseTypeUtils;
+import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.util.spi.PipelineTypedSPILoader;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.spi.annotation.SPIDescription;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merkle match data consistency calculate algorithm.
+ *
+ * <p>
+ * Records are checked chunk by chunk, every chunk is an integer unique key range which holds chunk size records on source side.
+ * Source side splits the ranges by walking unique key index, and target side is calculated by the same ranges.
+ * Ranges are contiguous from min to max long value, so no record on target side is skipped.
+ * Database calculates CRC32 checksum and records count of every range by {@code BETWEEN}, only the checksums are transferred.
+ * Mismatched chunks are bisected as a merkle tree, only mismatched halves are drilled down until the mismatched unique key values are found,
+ * or the max size of mismatched ranges is reached, then the rest of mismatched chunk is reported as a whole range.
+ * </p>
+ */
+@SPIDescription("Match merkle tree digests of records.")
+@Slf4j
+public final class MerkleMatchDataConsistencyCalculateAlgorithm extends AbstractStreamingDataConsistencyCalculateAlgorithm {
+    
+    private static final Collection<String> SUPPORTED_DATABASE_TYPES = DatabaseTypeUtils.getTrunkAndBranchDatabaseTypes(Collections.singleton(new MySQLDatabaseType().getType()));
+    
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final int DEFAULT_CHUNK_SIZE = 10000;
+    
+    private int chunkSize;
+    
+    @Override
+    public void init(final Properties props) {
+        chunkSize = getChunkSize(props);
+    }
+    
+    private int getChunkSize(final Properties props) {
+        int result = Integer.parseInt(props.getProperty(CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE + ""));
+        if (result <= 0) {
+            log.warn("Invalid result={}, use default value", result);
+            return DEFAULT_CHUNK_SIZE;
+        }
+        return result;
+    }
+    
+    @Override
+    public Optional<DataConsistencyCalculatedResult> calculateChunk(final DataConsistencyCalculateParameter param) {
+        CalculationContext calculationContext = getOrCreateCalculationContext(param);
+        try {
+            if (isCanceling()) {
+                throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName());
+            }
+            Long position = calculationContext.getPosition();
+            if (null != position && Long.MAX_VALUE == position) {
+                calculationContext.close();
+                return Optional.empty();
+            }
+            long beginUniqueKeyValue = null == position ? Long.MIN_VALUE : position + 1;
+            long endUniqueKeyValue;
+            if (null == param.getSharedUniqueKeyRanges() || param.isUniqueKeyRangesSplitter()) {
+                endUniqueKeyValue = findChunkEndValue(calculationContext, param, position);
+                if (null != param.getSharedUniqueKeyRanges()) {
+                    param.getSharedUniqueKeyRanges().offer(beginUniqueKeyValue, endUniqueKeyValue);
+                }
+            } else {
+                Range<Long> range = pollSharedUniqueKeyRange(param);
+                beginUniqueKeyValue = range.lowerEndpoint();
+                endUniqueKeyValue = range.upperEndpoint();
+            }
+            RangeDigest digest = calculationContext.getRangeDigestCalculator().calculate(calculationContext.getConnection(), beginUniqueKeyValue, endUniqueKeyValue);
+            calculationContext.setPosition(endUniqueKeyValue);
+            return Optional.of(new CalculatedResult(calculationContext.getRangeDigestCalculator(), beginUniqueKeyValue, endUniqueKeyValue, digest));
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            calculationContext.close();
+            if (ex instanceof PipelineSQLException) {
+                throw (PipelineSQLException) ex;
+            }
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        }
+    }
+    
+    private long findChunkEndValue(final CalculationContext calculationContext, final DataConsistencyCalculateParameter param, final Long position) throws SQLException {
+        PipelineSQLBuilder sqlBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, param.getDatabaseType());
+        String sql = sqlBuilder.buildSplitByUniqueKeyRangeSQL(param.getSchemaName(), param.getLogicTableName(), param.getUniqueKey().getName(), null == position);
+        try (PreparedStatement preparedStatement = setCurrentStatement(calculationContext.getConnection().prepareStatement(sql))) {
+            int parameterIndex = 1;
+            if (null != position) {
+                preparedStatement.setLong(parameterIndex++, position);
+            }
+            preparedStatement.setInt(parameterIndex, chunkSize);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next() || resultSet.getLong(3) < chunkSize) {
+                    return Long.MAX_VALUE;
+                }
+                return resultSet.getLong(2);
+            }
+        }
+    }
+    
+    private Range<Long> pollSharedUniqueKeyRange(final DataConsistencyCalculateParameter param) throws InterruptedException {
+        while (true) {
+            Range<Long> result = param.getSharedUniqueKeyRanges().poll(1L, TimeUnit.SECONDS);
+            if (null != result) {
+                return result;
+            }
+            if (isCanceling()) {
+                throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName());
+            }
+        }
+    }
+    
+    private CalculationContext getOrCreateCalculationContext(final DataConsistencyCalculateParameter param) {
+        CalculationContext result = (CalculationContext) param.getCalculationContext();
+        if (null != result) {
+            return result;
+        }
+        if (null == param.getUniqueKey() || !PipelineJdbcUtils.isIntegerColumn(param.getUniqueKey().getDataType())) {
+            throw new UnsupportedOperationException("Data consistency of MERKLE_MATCH type only support table with integer unique key or primary key now");
+        }
+        PipelineSQLBuilder sqlBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, param.getDatabaseType());
+        Optional<String> sql = sqlBuilder.buildUniqueKeyRangeCRC32SQL(param.getSchemaName(), param.getLogicTableName(), param.getColumnNames(), param.getUniqueKey().getName());
+        ShardingSpherePreconditions.checkState(sql.isPresent(), () -> new UnsupportedCRC32DataConsistencyCalculateAlgorithmException(param.getDatabaseType()));
+        RangeDigestCalculator rangeDigestCalculator = new RangeDigestCalculator(this, param.getDataSource(), sql.get());
+        try {
+            result = new CalculationContext(param.getDataSource().getConnection(), rangeDigestCalculator);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        }
+        if (null != param.getTableCheckPosition()) {
+            result.setPosition(Long.parseLong(param.getTableCheckPosition().toString()));
+        }
+        param.setCalculationContext(result);
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "MERKLE_MATCH";
+    }
+    
+    @Override
+    public Collection<String> getSupportedDatabaseTypes() {
+        return SUPPORTED_DATABASE_TYPES;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CalculationContext implements AutoCloseable {
+        
+        private final Connection connection;
+        
+        private final RangeDigestCalculator rangeDigestCalculator;
+        
+        @Setter
+        private volatile Long position;
+        
+        @Override
+        public void close() {
+            CloseUtils.closeQuietly(connection);
+        }
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+    static final class RangeDigestCalculator {
+        
+        private final AbstractDataConsistencyCalculateAlgorithm algorithm;
+        
+        private final PipelineDataSourceWrapper dataSource;
+        
+        private final String sql;
+        
+        Connection getConnection() throws SQLException {
+            return dataSource.getConnection();
+        }
+        
+        RangeDigest calculate(final Connection connection, final long beginUniqueKeyValue, final long endUniqueKeyValue) throws SQLException {
+            try (PreparedStatement preparedStatement = algorithm.setCurrentStatement(connection.prepareStatement(sql))) {
+                preparedStatement.setLong(1, beginUniqueKeyValue);
+                preparedStatement.setLong(2, endUniqueKeyValue);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    resultSet.next();
+                    return new RangeDigest(resultSet.getLong(1), resultSet.getInt(2), resultSet.getLong(3), resultSet.getLong(4));
+                }
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @EqualsAndHashCode
+    static final class RangeDigest {
+        
+        private final long checksum;
+        
+        private final int recordsCount;
+        
+        private final long minUniqueKeyValue;
+        
+        private final long maxUniqueKeyValue;
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+    static final class CalculatedResult implements UniqueKeyRangeDataConsistencyCalculatedResult {
+        
+        private final RangeDigestCalculator rangeDigestCalculator;
+        
+        @Getter
+        private final long beginUniqueKeyValue;
+        
+        @Getter
+        private final long endUniqueKeyValue;
+        
+        private final RangeDigest digest;
+        
+        @Override
+        public int getRecordsCount() {
+            return digest.getRecordsCount();
+        }
+        
+        @Override
+        public Optional<Object> getMaxUniqueKeyValue() {
+            return Optional.of(endUniqueKeyValue);
+        }
+        
+        @Override
+        public Collection<String> findMismatchedRanges(final UniqueKeyRangeDataConsistencyCalculatedResult peer, final int maxSize) {
+            if (maxSize <= 0 || !(peer instanceof CalculatedResult) || beginUniqueKeyValue != peer.getBeginUniqueKeyValue() || endUniqueKeyValue != peer.getEndUniqueKeyValue()) {
+                return Collections.singletonList(formatRange(beginUniqueKeyValue, endUniqueKeyValue));
+            }
+            MismatchedRangesCollector collector = new MismatchedRangesCollector(maxSize);
+            RangeDigestCalculator peerRangeDigestCalculator = ((CalculatedResult) peer).rangeDigestCalculator;
+            try (
+                    Connection connection = rangeDigestCalculator.getConnection();
+                    Connection peerConnection = peerRangeDigestCalculator.getConnection()) {
+                drillDown(connection, peerRangeDigestCalculator, peerConnection, digest, ((CalculatedResult) peer).digest, collector);
+            } catch (final SQLException ex) {
+                throw new PipelineTableDataConsistencyCheckLoadingFailedException(null, formatRange(beginUniqueKeyValue, endUniqueKeyValue), ex);
+            }
+            return collector.getRanges();
+        }
+        
+        private void drillDown(final Connection connection, final RangeDigestCalculator peerRangeDigestCalculator, final Connection peerConnection,
+                               final RangeDigest digest, final RangeDigest peerDigest, final MismatchedRangesCollector collector) throws SQLException {
+            long beginUniqueKeyValue = getDrillDownBeginValue(digest, peerDigest);
+            long endUniqueKeyValue = getDrillDownEndValue(digest, peerDigest);
+            if (beginUniqueKeyValue == endUniqueKeyValue || collector.isFull()) {
+                collector.add(beginUniqueKeyValue, endUniqueKeyValue);
+                return;
+            }
+            long middleUniqueKeyValue = (beginUniqueKeyValue & endUniqueKeyValue) + ((beginUniqueKeyValue ^ endUniqueKeyValue) >> 1);
+            RangeDigest lowerDigest = rangeDigestCalculator.calculate(connection, beginUniqueKeyValue, middleUniqueKeyValue);
+            RangeDigest lowerPeerDigest = peerRangeDigestCalculator.calculate(peerConnection, beginUniqueKeyValue, middleUniqueKeyValue);
+            if (!lowerDigest.equals(lowerPeerDigest)) {
+                drillDown(connection, peerRangeDigestCalculator, peerConnection, lowerDigest, lowerPeerDigest, collector);
+            }
+            if (collector.isFull()) {
+                collector.add(middleUniqueKeyValue + 1, endUniqueKeyValue);
+                return;
+            }
+            RangeDigest upperDigest = rangeDigestCalculator.calculate(connection, middleUniqueKeyValue + 1, endUniqueKeyValue);
+            RangeDigest upperPeerDigest = peerRangeDigestCalculator.calculate(peerConnection, middleUniqueKeyValue + 1, endUniqueKeyValue);
+            if (!upperDigest.equals(upperPeerDigest)) {
+                drillDown(connection, peerRangeDigestCalculator, peerConnection, upperDigest, upperPeerDigest, collector);
+            }
+        }
+        
+        private long getDrillDownBeginValue(final RangeDigest digest, final RangeDigest peerDigest) {
+            if (0 == digest.getRecordsCount()) {
+                return peerDigest.getMinUniqueKeyValue();
+            }
+            return 0 == peerDigest.getRecordsCount() ? digest.getMinUniqueKeyValue() : Math.min(digest.getMinUniqueKeyValue(), peerDigest.getMinUniqueKeyValue());
+        }
+        
+        private long getDrillDownEndValue(final RangeDigest digest, final RangeDigest peerDigest) {
+            if (0 == digest.getRecordsCount()) {
+                return peerDigest.getMaxUniqueKeyValue();
+            }
+            return 0 == peerDigest.getRecordsCount() ? digest.getMaxUniqueKeyValue() : Math.max(digest.getMaxUniqueKeyValue(), peerDigest.getMaxUniqueKeyValue());
+        }
+        
+        private static String formatRange(final long beginUniqueKeyValue, final long endUniqueKeyValue) {
+            return String.format("[%d, %d]", beginUniqueKeyValue, endUniqueKeyValue);
+        }
+        
+        @Override
+        public boolean equals(final Object o) {
+            if (null == o) {
+                return false;
+            }
+            if (this == o) {
+                return true;
+            }
+            if (getClass() != o.getClass()) {
+                log.warn("CalculatedResult type not match, o.className={}", o.getClass().getName());
+                return false;
+            }
+            final CalculatedResult that = (CalculatedResult) o;
+            if (beginUniqueKeyValue != that.beginUniqueKeyValue || endUniqueKeyValue != that.endUniqueKeyValue) {
+                log.warn("unique key range not match, range={}, that.range={}", formatRange(beginUniqueKeyValue, endUniqueKeyValue), formatRange(that.beginUniqueKeyValue, that.endUniqueKeyValue));
+                return false;
+            }
+            if (!digest.equals(that.digest)) {
+                log.info("range digest not match, range={}, recordsCount={}, that.recordsCount={}", formatRange(beginUniqueKeyValue, endUniqueKeyValue), getRecordsCount(), that.getRecordsCount());
+                return false;
+            }
+            return true;
+        }
+        
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(beginUniqueKeyValue) + digest.hashCode();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class MismatchedRangesCollector {
+        
+        private final int maxSize;
+        
+        private final Collection<String> ranges = new LinkedList<>();
+        
+        private int size;
+        
+        private Long rangeBeginValue;
+        
+        private long rangeEndValue;
+        
+        boolean isFull() {
+            return size >= maxSize;
+        }
+        
+        void add(final long beginUniqueKeyValue, final long endUniqueKeyValue) {
+            size++;
+            if (null != rangeBeginValue && beginUniqueKeyValue == rangeEndValue + 1) {
+                rangeEndValue = endUniqueKeyValue;
+                return;
+            }
+            if (null != rangeBeginValue) {
+                ranges.add(CalculatedResult.formatRange(rangeBeginValue, rangeEndValue));
+            }
+            rangeBeginValue = beginUniqueKeyValue;
+            rangeEndValue = endUniqueKeyValue;
+        }
+        
+        Collection<String> getRanges() {
+            if (null != rangeBeginValue) {
+                ranges.add(CalculatedResult.formatRange(rangeBeginValue, rangeEndValue));
+                rangeBeginValue = null;
+            }
+            return ranges;
+        }
+    }
+}
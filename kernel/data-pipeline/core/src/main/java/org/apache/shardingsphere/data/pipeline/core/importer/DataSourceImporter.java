@@ -38,6 +38,7 @@ import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
 import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineImporterJobWriteException;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.record.RecordUtils;
+import org.apache.shardingsphere.data.pipeline.spi.importer.PipelineBulkInserter;
 import org.apache.shardingsphere.data.pipeline.spi.importer.connector.ImporterConnector;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
@@ -49,6 +50,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -74,6 +76,12 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
     
     private final JobRateLimitAlgorithm rateLimitAlgorithm;
     
+    private final PipelineBulkInserter bulkInserter;
+    
+    private final Set<String> bulkInsertUnsupportedTableNames = new HashSet<>();
+    
+    private Connection reusedConnection;
+    
     private volatile Statement batchInsertStatement;
     
     private volatile Statement updateStatement;
@@ -87,22 +95,27 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
         this.dataSourceManager = (PipelineDataSourceManager) importerConnector.getConnector();
         this.channel = channel;
         pipelineSqlBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, importerConfig.getDataSourceConfig().getDatabaseType().getType());
+        bulkInserter = PipelineTypedSPILoader.findDatabaseTypedService(PipelineBulkInserter.class, importerConfig.getDataSourceConfig().getDatabaseType().getType()).orElse(null);
         this.jobProgressListener = jobProgressListener;
     }
     
     @Override
     protected void runBlocking() {
         int batchSize = importerConfig.getBatchSize() * 2;
-        while (isRunning()) {
-            List<Record> records = channel.fetchRecords(batchSize, 3);
-            if (null != records && !records.isEmpty()) {
-                PipelineJobProgressUpdatedParameter updatedParam = flush(dataSourceManager.getDataSource(importerConfig.getDataSourceConfig()), records);
-                channel.ack(records);
-                jobProgressListener.onProgressUpdated(updatedParam);
-                if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
-                    break;
+        try {
+            while (isRunning()) {
+                List<Record> records = channel.fetchRecords(batchSize, 3);
+                if (null != records && !records.isEmpty()) {
+                    PipelineJobProgressUpdatedParameter updatedParam = flush(dataSourceManager.getDataSource(importerConfig.getDataSourceConfig()), records);
+                    channel.ack(records);
+                    jobProgressListener.onProgressUpdated(updatedParam);
+                    if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
+                        break;
+                    }
                 }
             }
+        } finally {
+            closeConnection();
         }
     }
     
@@ -142,6 +155,7 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
                 return true;
             } catch (final SQLException ex) {
                 log.error("flush failed {}/{} times.", i, importerConfig.getRetryTimes(), ex);
+                closeConnection();
                 Thread.sleep(Math.min(5 * 60 * 1000L, 1000L << i));
             }
         }
@@ -149,36 +163,57 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
     }
     
     private void doFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
-        try (Connection connection = dataSource.getConnection()) {
-            connection.setAutoCommit(false);
-            switch (buffer.get(0).getType()) {
-                case IngestDataChangeType.INSERT:
-                    if (null != rateLimitAlgorithm) {
-                        rateLimitAlgorithm.intercept(JobOperationType.INSERT, 1);
-                    }
-                    executeBatchInsert(connection, buffer);
-                    break;
-                case IngestDataChangeType.UPDATE:
-                    if (null != rateLimitAlgorithm) {
-                        rateLimitAlgorithm.intercept(JobOperationType.UPDATE, 1);
-                    }
-                    executeUpdate(connection, buffer);
-                    break;
-                case IngestDataChangeType.DELETE:
-                    if (null != rateLimitAlgorithm) {
-                        rateLimitAlgorithm.intercept(JobOperationType.DELETE, 1);
-                    }
-                    executeBatchDelete(connection, buffer);
-                    break;
-                default:
-                    break;
-            }
-            connection.commit();
+        Connection connection = getConnection(dataSource);
+        switch (buffer.get(0).getType()) {
+            case IngestDataChangeType.INSERT:
+                if (null != rateLimitAlgorithm) {
+                    rateLimitAlgorithm.intercept(JobOperationType.INSERT, 1);
+                }
+                executeBatchInsert(connection, buffer);
+                break;
+            case IngestDataChangeType.UPDATE:
+                if (null != rateLimitAlgorithm) {
+                    rateLimitAlgorithm.intercept(JobOperationType.UPDATE, 1);
+                }
+                executeUpdate(connection, buffer);
+                break;
+            case IngestDataChangeType.DELETE:
+                if (null != rateLimitAlgorithm) {
+                    rateLimitAlgorithm.intercept(JobOperationType.DELETE, 1);
+                }
+                executeBatchDelete(connection, buffer);
+                break;
+            default:
+                break;
         }
+        connection.commit();
+    }
+    
+    private Connection getConnection(final DataSource dataSource) throws SQLException {
+        if (null == reusedConnection || reusedConnection.isClosed()) {
+            reusedConnection = dataSource.getConnection();
+            reusedConnection.setAutoCommit(false);
+        }
+        return reusedConnection;
+    }
+    
+    private void closeConnection() {
+        if (null == reusedConnection) {
+            return;
+        }
+        try {
+            reusedConnection.close();
+        } catch (final SQLException ex) {
+            log.warn("close connection failed", ex);
+        }
+        reusedConnection = null;
     }
     
     private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         DataRecord dataRecord = dataRecords.get(0);
+        if (null != bulkInserter && dataRecords.size() > 1 && tryBulkInsert(connection, dataRecords)) {
+            return;
+        }
         String insertSql = pipelineSqlBuilder.buildInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord);
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertSql)) {
             batchInsertStatement = preparedStatement;
@@ -195,6 +230,27 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
         }
     }
     
+    private boolean tryBulkInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        String tableName = dataRecords.get(0).getTableName();
+        if (bulkInsertUnsupportedTableNames.contains(tableName)) {
+            return false;
+        }
+        if (!bulkInserter.isSupported(dataRecords)) {
+            log.info("Bulk insert is not supported by column values of table `{}`, use batch insert.", tableName);
+            bulkInsertUnsupportedTableNames.add(tableName);
+            return false;
+        }
+        try {
+            bulkInserter.insert(connection, getSchemaName(tableName), dataRecords);
+            return true;
+        } catch (final SQLException ex) {
+            log.warn("Bulk insert of table `{}` failed, use batch insert.", tableName, ex);
+            bulkInsertUnsupportedTableNames.add(tableName);
+            connection.rollback();
+            return false;
+        }
+    }
+    
     private String getSchemaName(final String logicTableName) {
         return getImporterConfig().getSchemaName(new LogicTableName(logicTableName));
     }
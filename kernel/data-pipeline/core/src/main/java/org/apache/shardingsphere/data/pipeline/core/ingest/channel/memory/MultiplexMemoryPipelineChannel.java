@@ -17,21 +17,40 @@
 
 package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 /**
  * Multiplex memory pipeline channel.
+ *
+ * <p>
+ * Data records are partitioned by table name and unique key, so records of the same row are consumed in order by the same consumer.
+ * Every consumer acks records in the order of its partition, and only the last record whose preceding records have all been acked is passed to ack callback,
+ * so the acked position is the minimum across all consumers.
+ * </p>
  */
 public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
@@ -41,29 +60,128 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     private final Map<String, Integer> channelAssignment = new HashMap<>();
     
+    private final AckCallback ackCallback;
+    
+    private final List<Queue<SequencedRecord>> pendingRecords;
+    
+    private final NavigableMap<Long, Record> ackedRecords = new TreeMap<>();
+    
+    private final AtomicLongArray ackedRecordsCounts;
+    
+    private long sequence;
+    
+    private volatile boolean closed;
+    
     public MultiplexMemoryPipelineChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback) {
+        this(channelNumber, callback -> new SimpleMemoryPipelineChannel(blockQueueSize, callback), ackCallback);
+    }
+    
+    public MultiplexMemoryPipelineChannel(final int channelNumber, final Function<AckCallback, PipelineChannel> channelCreator, final AckCallback ackCallback) {
         this.channelNumber = channelNumber;
-        channels = IntStream.range(0, channelNumber).mapToObj(each -> new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback)).collect(Collectors.toList());
+        this.ackCallback = ackCallback;
+        pendingRecords = IntStream.range(0, channelNumber).mapToObj(each -> new ConcurrentLinkedQueue<SequencedRecord>()).collect(Collectors.toList());
+        ackedRecordsCounts = new AtomicLongArray(channelNumber);
+        channels = IntStream.range(0, channelNumber).mapToObj(each -> channelCreator.apply(records -> onAck(each, records))).collect(Collectors.toList());
     }
     
     @Override
     public void pushRecord(final Record record) {
         if (FinishedRecord.class.equals(record.getClass())) {
             for (int i = 0; i < channelNumber; i++) {
-                pushRecord(record, i);
+                pushRecordToChannel(record, i);
             }
         } else if (DataRecord.class.equals(record.getClass())) {
-            pushRecord(record, Math.abs(record.hashCode() % channelNumber));
+            pushDataRecord((DataRecord) record);
         } else if (PlaceholderRecord.class.equals(record.getClass())) {
-            pushRecord(record, 0);
+            pushRecordToChannel(record, 0);
         } else {
             throw new RuntimeException("Not Support Record Type");
         }
     }
     
-    private void pushRecord(final Record record, final int channelIndex) {
-        PipelineChannel channel = channels.get(channelIndex);
-        channel.pushRecord(record);
+    private void pushDataRecord(final DataRecord dataRecord) {
+        int channelIndex = getChannelIndex(dataRecord.getKey());
+        if (!IngestDataChangeType.UPDATE.equals(dataRecord.getType()) || channelIndex == getChannelIndex(getBeforeUpdateKey(dataRecord))) {
+            pushRecordToChannel(dataRecord, channelIndex);
+            return;
+        }
+        // Unique key is changed to another partition, the record depends on records of both partitions, so it is applied after and before all others.
+        waitUntilAllRecordsAcked();
+        pushRecordToChannel(dataRecord, channelIndex);
+        waitUntilAllRecordsAcked();
+    }
+    
+    private int getChannelIndex(final DataRecord.Key key) {
+        return Math.abs(key.hashCode() % channelNumber);
+    }
+    
+    private DataRecord.Key getBeforeUpdateKey(final DataRecord dataRecord) {
+        List<Object> result = new ArrayList<>(dataRecord.getUniqueKeyValue().size());
+        for (Column each : dataRecord.getColumns()) {
+            if (each.isUniqueKey()) {
+                result.add(null == each.getOldValue() ? each.getValue() : each.getOldValue());
+            }
+        }
+        return new DataRecord.Key(dataRecord.getTableName(), result);
+    }
+    
+    private void pushRecordToChannel(final Record record, final int channelIndex) {
+        pendingRecords.get(channelIndex).offer(new SequencedRecord(sequence++, record));
+        channels.get(channelIndex).pushRecord(record);
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void waitUntilAllRecordsAcked() {
+        synchronized (ackedRecords) {
+            while (!closed && pendingRecords.stream().anyMatch(each -> !each.isEmpty())) {
+                ackedRecords.wait(100L);
+            }
+        }
+    }
+    
+    private void onAck(final int channelIndex, final List<Record> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        ackedRecordsCounts.addAndGet(channelIndex, records.size());
+        Queue<SequencedRecord> channelPendingRecords = pendingRecords.get(channelIndex);
+        synchronized (ackedRecords) {
+            Record lastAckedRecord = records.get(records.size() - 1);
+            SequencedRecord ackedRecord;
+            do {
+                ackedRecord = channelPendingRecords.poll();
+                if (null != ackedRecord) {
+                    ackedRecords.put(ackedRecord.getSequence(), ackedRecord.getRecord());
+                }
+            } while (null != ackedRecord && ackedRecord.getRecord() != lastAckedRecord);
+            NavigableMap<Long, Record> safeRecords = ackedRecords.headMap(getMinPendingSequence(), false);
+            if (!safeRecords.isEmpty()) {
+                Record lastSafeRecord = safeRecords.lastEntry().getValue();
+                safeRecords.clear();
+                ackCallback.onAck(Collections.singletonList(lastSafeRecord));
+            }
+            ackedRecords.notifyAll();
+        }
+    }
+    
+    private long getMinPendingSequence() {
+        long result = Long.MAX_VALUE;
+        for (Queue<SequencedRecord> each : pendingRecords) {
+            SequencedRecord pendingRecord = each.peek();
+            if (null != pendingRecord) {
+                result = Math.min(result, pendingRecord.getSequence());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get acked records count of every channel.
+     *
+     * @return acked records counts
+     */
+    public List<Long> getAckedRecordsCounts() {
+        return IntStream.range(0, channelNumber).mapToObj(ackedRecordsCounts::get).collect(Collectors.toList());
     }
     
     @Override
@@ -103,8 +221,18 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     @Override
     public void close() {
+        closed = true;
         for (PipelineChannel each : channels) {
             each.close();
         }
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class SequencedRecord {
+        
+        private final long sequence;
+        
+        private final Record record;
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer pipeline channel.
+ *
+ * <p>
+ * Records are passed through a pre-allocated ring buffer with single producer and single consumer.
+ * Consumer is signaled by producer once enough records are available, and producer is parked while the buffer is full.
+ * Pushing into the full buffer of closed channel fails instead of dropping the record.
+ * </p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private final Record[] buffer;
+    
+    private final int mask;
+    
+    private final AckCallback ackCallback;
+    
+    private final AtomicLong head = new AtomicLong();
+    
+    private final AtomicLong tail = new AtomicLong();
+    
+    private volatile Thread waitingProducer;
+    
+    private volatile Thread waitingConsumer;
+    
+    private volatile int requiredRecordCount;
+    
+    private volatile boolean closed;
+    
+    public RingBufferPipelineChannel(final int bufferSize, final AckCallback ackCallback) {
+        int capacity = Integer.highestOneBit(Math.max(bufferSize, 2) - 1) << 1;
+        buffer = new Record[capacity];
+        mask = capacity - 1;
+        this.ackCallback = ackCallback;
+    }
+    
+    @Override
+    public void pushRecord(final Record dataRecord) {
+        long currentTail = tail.get();
+        while (currentTail - head.get() >= buffer.length) {
+            if (closed) {
+                throw new IllegalStateException("put " + dataRecord + " into ring buffer failed, channel is closed");
+            }
+            waitingProducer = Thread.currentThread();
+            if (currentTail - head.get() >= buffer.length) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(100L));
+            }
+            waitingProducer = null;
+            if (Thread.interrupted()) {
+                throw new RuntimeException("put " + dataRecord + " into ring buffer failed", new InterruptedException());
+            }
+        }
+        buffer[(int) currentTail & mask] = dataRecord;
+        tail.set(currentTail + 1L);
+        Thread consumer = waitingConsumer;
+        if (null != consumer && currentTail + 1L - head.get() >= requiredRecordCount) {
+            LockSupport.unpark(consumer);
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        int requiredCount = Math.min(batchSize, buffer.length);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while (!closed && getQueueDepth() < requiredCount) {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0L) {
+                break;
+            }
+            requiredRecordCount = requiredCount;
+            waitingConsumer = Thread.currentThread();
+            if (getQueueDepth() < requiredCount) {
+                LockSupport.parkNanos(this, remainingNanos);
+            }
+            waitingConsumer = null;
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        List<Record> result = new ArrayList<>(batchSize);
+        drain(result, batchSize);
+        return result;
+    }
+    
+    /**
+     * Drain records from ring buffer.
+     *
+     * @param records records to be drained into
+     * @param maxCount max count of records to be drained
+     * @return queue depth before draining
+     */
+    public int drain(final List<Record> records, final int maxCount) {
+        long currentHead = head.get();
+        int result = (int) (tail.get() - currentHead);
+        int count = Math.min(result, maxCount);
+        for (int i = 0; i < count; i++) {
+            int index = (int) (currentHead + i) & mask;
+            records.add(buffer[index]);
+            buffer[index] = null;
+        }
+        head.set(currentHead + count);
+        Thread producer = waitingProducer;
+        if (null != producer && count > 0) {
+            LockSupport.unpark(producer);
+        }
+        return result;
+    }
+    
+    /**
+     * Get queue depth.
+     *
+     * @return count of records which are not fetched yet
+     */
+    public int getQueueDepth() {
+        return (int) (tail.get() - head.get());
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        Thread producer = waitingProducer;
+        if (null != producer) {
+            LockSupport.unpark(producer);
+        }
+        Thread consumer = waitingConsumer;
+        if (null != consumer) {
+            LockSupport.unpark(consumer);
+        }
+    }
+}
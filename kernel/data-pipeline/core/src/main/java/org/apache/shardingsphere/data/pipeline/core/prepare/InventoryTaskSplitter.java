@@ -57,6 +57,7 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
 
 /**
  * Inventory data task splitter.
@@ -153,15 +154,15 @@ public final class InventoryTaskSplitter {
         if (!dumperConfig.hasUniqueKey()) {
             return getPositionWithoutUniqueKey(jobItemContext, dataSource, dumperConfig);
         }
-        List<PipelineColumnMetaData> uniqueKeyColumns = dumperConfig.getUniqueKeyColumns();
-        if (1 == uniqueKeyColumns.size()) {
-            int firstColumnDataType = uniqueKeyColumns.get(0).getDataType();
-            if (PipelineJdbcUtils.isIntegerColumn(firstColumnDataType)) {
-                return getPositionByIntegerUniqueKeyRange(jobItemContext, dataSource, dumperConfig);
-            }
-            if (PipelineJdbcUtils.isStringColumn(firstColumnDataType)) {
-                return getPositionByStringUniqueKeyRange(jobItemContext, dataSource, dumperConfig);
-            }
+        // Ranges are split by the first column of composite unique key too, since records are dumped with inclusive range of the first column
+        int firstColumnDataType = dumperConfig.getUniqueKeyColumns().get(0).getDataType();
+        if (PipelineJdbcUtils.isIntegerColumn(firstColumnDataType)) {
+            return 1 == dumperConfig.getUniqueKeyColumns().size()
+                    ? getPositionByIntegerUniqueKeyRange(jobItemContext, dataSource, dumperConfig)
+                    : getPositionByIntegerCompositeUniqueKeyRange(jobItemContext, dataSource, dumperConfig);
+        }
+        if (PipelineJdbcUtils.isStringColumn(firstColumnDataType)) {
+            return getPositionByStringUniqueKeyRange(jobItemContext, dataSource, dumperConfig);
         }
         return getUnsupportedPosition(jobItemContext, dataSource, dumperConfig);
     }
@@ -262,12 +263,58 @@ public final class InventoryTaskSplitter {
         return result;
     }
     
+    private Collection<IngestPosition<?>> getPositionByIntegerCompositeUniqueKeyRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource,
+                                                                                      final InventoryDumperConfiguration dumperConfig) {
+        // First column of composite unique key may repeat and be negative, so walk the index from the real minimum value without sentinel
+        return getPositionByUniqueKeyRange(jobItemContext, dataSource, dumperConfig,
+                ResultSet::getLong, PreparedStatement::setLong, IntegerPrimaryKeyPosition::new, new IntegerPrimaryKeyPosition(0, 0));
+    }
+    
     private Collection<IngestPosition<?>> getPositionByStringUniqueKeyRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource,
                                                                             final InventoryDumperConfiguration dumperConfig) {
-        long tableRecordsCount = getTableRecordsCount(jobItemContext, dataSource, dumperConfig);
-        jobItemContext.updateInventoryRecordsCount(tableRecordsCount);
+        return getPositionByUniqueKeyRange(jobItemContext, dataSource, dumperConfig,
+                ResultSet::getString, PreparedStatement::setString, StringPrimaryKeyPosition::new, new StringPrimaryKeyPosition(null, null));
+    }
+    
+    private <T> Collection<IngestPosition<?>> getPositionByUniqueKeyRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource,
+                                                                          final InventoryDumperConfiguration dumperConfig, final UniqueKeyValueReader<T> valueReader,
+                                                                          final UniqueKeyValueBinder<T> valueBinder, final BiFunction<T, T, IngestPosition<?>> positionCreator,
+                                                                          final IngestPosition<?> emptyTablePosition) {
         Collection<IngestPosition<?>> result = new LinkedList<>();
-        result.add(new StringPrimaryKeyPosition(null, null));
+        PipelineSQLBuilder pipelineSQLBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, jobItemContext.getJobConfig().getSourceDatabaseType());
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
+        String uniqueKey = dumperConfig.getUniqueKeyColumns().get(0).getName();
+        int shardingSize = jobItemContext.getJobProcessContext().getPipelineProcessConfig().getRead().getShardingSize();
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement firstStatement = connection.prepareStatement(pipelineSQLBuilder.buildSplitByUniqueKeyRangeSQL(schemaName, dumperConfig.getActualTableName(), uniqueKey, true));
+                PreparedStatement nextStatement = connection.prepareStatement(pipelineSQLBuilder.buildSplitByUniqueKeyRangeSQL(schemaName, dumperConfig.getActualTableName(), uniqueKey, false))) {
+            long recordsCount = 0;
+            T endValue = null;
+            while (true) {
+                PreparedStatement preparedStatement = null == endValue ? firstStatement : nextStatement;
+                int parameterIndex = 1;
+                if (null != endValue) {
+                    valueBinder.setValue(preparedStatement, parameterIndex++, endValue);
+                }
+                preparedStatement.setLong(parameterIndex, shardingSize);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    if (!resultSet.next() || 0 == resultSet.getLong(3)) {
+                        break;
+                    }
+                    endValue = valueReader.getValue(resultSet, 2);
+                    recordsCount += resultSet.getLong(3);
+                    result.add(positionCreator.apply(valueReader.getValue(resultSet, 1), endValue));
+                }
+            }
+            jobItemContext.updateInventoryRecordsCount(recordsCount);
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperConfig.getActualTableName(), uniqueKey, ex);
+        }
+        // fix empty table missing inventory task
+        if (result.isEmpty()) {
+            result.add(emptyTablePosition);
+        }
         return result;
     }
     
@@ -277,4 +324,14 @@ public final class InventoryTaskSplitter {
         jobItemContext.updateInventoryRecordsCount(tableRecordsCount);
         return Collections.singletonList(new UnsupportedKeyPosition());
     }
+    
+    private interface UniqueKeyValueReader<T> {
+        
+        T getValue(ResultSet resultSet, int columnIndex) throws SQLException;
+    }
+    
+    private interface UniqueKeyValueBinder<T> {
+        
+        void setValue(PreparedStatement preparedStatement, int parameterIndex, T value) throws SQLException;
+    }
 }
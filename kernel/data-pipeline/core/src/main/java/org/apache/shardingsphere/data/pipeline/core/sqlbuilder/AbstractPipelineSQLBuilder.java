@@ -210,4 +210,15 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return String.format("SELECT MAX(%s),COUNT(1) FROM (SELECT %s FROM %s WHERE %s>=? ORDER BY %s LIMIT ?) t",
                 quotedUniqueKey, quotedUniqueKey, getQualifiedTableName(schemaName, tableName), quotedUniqueKey, quotedUniqueKey);
     }
+    
+    @Override
+    public String buildSplitByUniqueKeyRangeSQL(final String schemaName, final String tableName, final String uniqueKey, final boolean firstQuery) {
+        String qualifiedTableName = getQualifiedTableName(schemaName, tableName);
+        String quotedUniqueKey = quote(uniqueKey);
+        return firstQuery
+                ? String.format("SELECT MIN(%s),MAX(%s),COUNT(1) FROM (SELECT %s FROM %s ORDER BY %s LIMIT ?) t",
+                        quotedUniqueKey, quotedUniqueKey, quotedUniqueKey, qualifiedTableName, quotedUniqueKey)
+                : String.format("SELECT MIN(%s),MAX(%s),COUNT(1) FROM (SELECT %s FROM %s WHERE %s>? ORDER BY %s LIMIT ?) t",
+                        quotedUniqueKey, quotedUniqueKey, quotedUniqueKey, qualifiedTableName, quotedUniqueKey, quotedUniqueKey);
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.spi.importer;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.infra.util.spi.annotation.SingletonSPI;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPI;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Pipeline bulk inserter.
+ */
+@SingletonSPI
+public interface PipelineBulkInserter extends TypedSPI {
+    
+    /**
+     * Judge whether data records can be inserted in bulk.
+     *
+     * @param dataRecords data records of the same table and columns
+     * @return data records can be inserted in bulk or not
+     */
+    boolean isSupported(List<DataRecord> dataRecords);
+    
+    /**
+     * Insert data records in bulk.
+     *
+     * @param connection connection
+     * @param schemaName schema name
+     * @param dataRecords data records of the same table and columns
+     * @throws SQLException SQL exception, including data records could not be inserted in bulk
+     */
+    void insert(Connection connection, String schemaName, List<DataRecord> dataRecords) throws SQLException;
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.api.check.consistency.yaml;
+
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCheckResult;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyContentCheckResult;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCountCheckResult;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class YamlDataConsistencyCheckResultSwapperTest {
+    
+    private final YamlDataConsistencyCheckResultSwapper swapper = new YamlDataConsistencyCheckResultSwapper();
+    
+    @Test
+    void assertSwapWithMismatchedRanges() {
+        DataConsistencyContentCheckResult contentCheckResult = new DataConsistencyContentCheckResult(false, Arrays.asList("[3, 4]", "[7, 7]"));
+        DataConsistencyCheckResult checkResult = new DataConsistencyCheckResult(new DataConsistencyCountCheckResult(10L, 10L), contentCheckResult);
+        YamlDataConsistencyCheckResult yamlCheckResult = swapper.swapToYamlConfiguration(checkResult);
+        assertThat(yamlCheckResult.getContentCheckResult().getMismatchedRanges(), is(Arrays.asList("[3, 4]", "[7, 7]")));
+        DataConsistencyCheckResult actual = swapper.swapToObject(YamlEngine.marshal(yamlCheckResult));
+        assertThat(actual.getCountCheckResult().getSourceRecordsCount(), is(10L));
+        assertThat(actual.getContentCheckResult().isMatched(), is(false));
+        assertThat(actual.getContentCheckResult().getMismatchedRanges(), is(Arrays.asList("[3, 4]", "[7, 7]")));
+    }
+    
+    @Test
+    void assertSwapWithoutMismatchedRanges() {
+        DataConsistencyCheckResult checkResult = new DataConsistencyCheckResult(new DataConsistencyCountCheckResult(10L, 10L), new DataConsistencyContentCheckResult(true));
+        YamlDataConsistencyCheckResult yamlCheckResult = swapper.swapToYamlConfiguration(checkResult);
+        assertNull(yamlCheckResult.getContentCheckResult().getMismatchedRanges());
+        DataConsistencyCheckResult actual = swapper.swapToObject(YamlEngine.marshal(yamlCheckResult));
+        assertThat(actual.getContentCheckResult().isMatched(), is(true));
+        assertTrue(actual.getContentCheckResult().getMismatchedRanges().isEmpty());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency;
+
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCheckResult;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.UniqueKeyRangeDataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.metadata.SchemaName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.SchemaTableName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.TableName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.spi.check.consistency.DataConsistencyCalculateAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SingleTableInventoryDataConsistencyCheckerTest {
+    
+    @Test
+    void assertCheckAllUniqueKeyRangesAfterMismatched() {
+        UniqueKeyRangeDataConsistencyCalculatedResult matchedResult = mockCalculatedResult(0L, 4L, 4);
+        UniqueKeyRangeDataConsistencyCalculatedResult sourceMismatchedResult = mockCalculatedResult(5L, 9L, 5);
+        UniqueKeyRangeDataConsistencyCalculatedResult targetMismatchedResult = mockCalculatedResult(5L, 9L, 5);
+        when(sourceMismatchedResult.findMismatchedRanges(targetMismatchedResult, 100)).thenReturn(Collections.singletonList("[8, 8]"));
+        UniqueKeyRangeDataConsistencyCalculatedResult targetOnlyResult = mockCalculatedResult(10L, 14L, 2);
+        UniqueKeyRangeDataConsistencyCalculatedResult sourceOnlyResult = mockCalculatedResult(15L, 19L, 3);
+        DataConsistencyCalculateAlgorithm calculateAlgorithm = mock(DataConsistencyCalculateAlgorithm.class);
+        PipelineDataSourceWrapper sourceDataSource = mock(PipelineDataSourceWrapper.class, RETURNS_DEEP_STUBS);
+        when(sourceDataSource.getDatabaseType().getType()).thenReturn("FIXTURE");
+        PipelineDataSourceWrapper targetDataSource = mock(PipelineDataSourceWrapper.class, RETURNS_DEEP_STUBS);
+        when(targetDataSource.getDatabaseType().getType()).thenReturn("FIXTURE");
+        when(calculateAlgorithm.calculate(any(DataConsistencyCalculateParameter.class))).thenAnswer(invocation -> {
+            DataConsistencyCalculateParameter param = invocation.getArgument(0);
+            return sourceDataSource == param.getDataSource()
+                    ? Arrays.<DataConsistencyCalculatedResult>asList(matchedResult, sourceMismatchedResult, sourceOnlyResult)
+                    : Arrays.<DataConsistencyCalculatedResult>asList(matchedResult, targetMismatchedResult, targetOnlyResult);
+        });
+        ConsistencyCheckJobItemProgressContext progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0);
+        PipelineColumnMetaData uniqueKey = new PipelineColumnMetaData(1, "id", Types.INTEGER, "integer", false, true, true);
+        SchemaTableName sourceTable = new SchemaTableName(new SchemaName(null), new TableName("foo_tbl"));
+        SchemaTableName targetTable = new SchemaTableName(new SchemaName(null), new TableName("bar_tbl"));
+        DataConsistencyCheckResult actual = new SingleTableInventoryDataConsistencyChecker(
+                "foo_job", sourceDataSource, targetDataSource, sourceTable, targetTable, Collections.singletonList("id"), uniqueKey, null, progressContext).check(calculateAlgorithm);
+        assertThat(actual.getCountCheckResult().getSourceRecordsCount(), is(12L));
+        assertThat(actual.getCountCheckResult().getTargetRecordsCount(), is(11L));
+        assertFalse(actual.getContentCheckResult().isMatched());
+        assertThat(actual.getContentCheckResult().getMismatchedRanges(), is(Arrays.asList("[8, 8]", "[10, 14]", "[15, 19]")));
+        assertThat(progressContext.getTableCheckPositions().get("foo_tbl"), is(19L));
+        assertThat(progressContext.getTableCheckPositions().get("bar_tbl"), is(14L));
+    }
+    
+    private UniqueKeyRangeDataConsistencyCalculatedResult mockCalculatedResult(final long beginUniqueKeyValue, final long endUniqueKeyValue, final int recordsCount) {
+        UniqueKeyRangeDataConsistencyCalculatedResult result = mock(UniqueKeyRangeDataConsistencyCalculatedResult.class);
+        when(result.getBeginUniqueKeyValue()).thenReturn(beginUniqueKeyValue);
+        when(result.getEndUniqueKeyValue()).thenReturn(endUniqueKeyValue);
+        when(result.getRecordsCount()).thenReturn(recordsCount);
+        when(result.getMaxUniqueKeyValue()).thenReturn(Optional.of(endUniqueKeyValue));
+        return result;
+    }
+}
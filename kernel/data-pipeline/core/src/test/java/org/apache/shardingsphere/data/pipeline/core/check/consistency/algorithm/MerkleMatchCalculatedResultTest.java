@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm.MerkleMatchDataConsistencyCalculateAlgorithm.CalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm.MerkleMatchDataConsistencyCalculateAlgorithm.RangeDigest;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm.MerkleMatchDataConsistencyCalculateAlgorithm.RangeDigestCalculator;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MerkleMatchCalculatedResultTest {
+    
+    @Test
+    void assertEquals() {
+        RangeDigestCalculator rangeDigestCalculator = mock(RangeDigestCalculator.class);
+        CalculatedResult actual = new CalculatedResult(rangeDigestCalculator, 0L, 9L, new RangeDigest(1L, 9, 1L, 9L));
+        CalculatedResult expected = new CalculatedResult(rangeDigestCalculator, 0L, 9L, new RangeDigest(1L, 9, 1L, 9L));
+        assertThat(actual, is(expected));
+        assertThat(actual.hashCode(), is(expected.hashCode()));
+        assertThat(actual.getRecordsCount(), is(9));
+        assertThat(actual.getMaxUniqueKeyValue().orElse(null), is(9L));
+    }
+    
+    @Test
+    void assertRecordsCountNotEquals() {
+        RangeDigestCalculator rangeDigestCalculator = mock(RangeDigestCalculator.class);
+        assertNotEquals(new CalculatedResult(rangeDigestCalculator, 0L, 9L, new RangeDigest(1L, 9, 1L, 9L)), new CalculatedResult(rangeDigestCalculator, 0L, 9L, new RangeDigest(1L, 2, 1L, 9L)));
+    }
+    
+    @Test
+    void assertRangeNotEquals() {
+        RangeDigestCalculator rangeDigestCalculator = mock(RangeDigestCalculator.class);
+        CalculatedResult actual = new CalculatedResult(rangeDigestCalculator, 0L, 9L, new RangeDigest(1L, 9, 1L, 9L));
+        CalculatedResult expected = new CalculatedResult(rangeDigestCalculator, 10L, 19L, new RangeDigest(1L, 9, 1L, 9L));
+        assertNotEquals(actual, expected);
+        assertThat(actual.findMismatchedRanges(expected, 100), is(Collections.singletonList("[0, 9]")));
+    }
+    
+    @Test
+    void assertFindMismatchedRanges() throws SQLException {
+        RangeDigestCalculator sourceRangeDigestCalculator = mockRangeDigestCalculator(Collections.emptyList());
+        RangeDigestCalculator targetRangeDigestCalculator = mockRangeDigestCalculator(Arrays.asList(3L, 4L, 7L, 9L));
+        CalculatedResult actual = new CalculatedResult(sourceRangeDigestCalculator, 0L, 9L, new RangeDigest(1L, 9, 1L, 9L));
+        CalculatedResult expected = new CalculatedResult(targetRangeDigestCalculator, 0L, 9L, new RangeDigest(2L, 9, 1L, 9L));
+        assertNotEquals(actual, expected);
+        assertThat(actual.findMismatchedRanges(expected, 100), is(Arrays.asList("[3, 4]", "[7, 7]", "[9, 9]")));
+    }
+    
+    @Test
+    void assertFindMismatchedRangesWithMaxSize() throws SQLException {
+        RangeDigestCalculator sourceRangeDigestCalculator = mockRangeDigestCalculator(Collections.emptyList());
+        RangeDigestCalculator targetRangeDigestCalculator = mockRangeDigestCalculator(Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L));
+        CalculatedResult actual = new CalculatedResult(sourceRangeDigestCalculator, 0L, 9L, new RangeDigest(1L, 10, 0L, 9L));
+        CalculatedResult expected = new CalculatedResult(targetRangeDigestCalculator, 0L, 9L, new RangeDigest(2L, 10, 0L, 9L));
+        assertThat(actual.findMismatchedRanges(expected, 2), is(Collections.singletonList("[1, 9]")));
+        verify(sourceRangeDigestCalculator, times(6)).calculate(any(), anyLong(), anyLong());
+        assertThat(actual.findMismatchedRanges(expected, 0), is(Collections.singletonList("[0, 9]")));
+        verify(sourceRangeDigestCalculator, times(6)).calculate(any(), anyLong(), anyLong());
+    }
+    
+    private RangeDigestCalculator mockRangeDigestCalculator(final Collection<Long> changedUniqueKeyValues) throws SQLException {
+        RangeDigestCalculator result = mock(RangeDigestCalculator.class);
+        when(result.getConnection()).thenReturn(mock(Connection.class));
+        when(result.calculate(any(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            long beginUniqueKeyValue = invocation.getArgument(1);
+            long endUniqueKeyValue = invocation.getArgument(2);
+            long checksum = 0L;
+            for (long each = beginUniqueKeyValue; each <= endUniqueKeyValue; each++) {
+                checksum ^= changedUniqueKeyValues.contains(each) ? each * 31L : each;
+            }
+            return new RangeDigest(checksum, (int) (endUniqueKeyValue - beginUniqueKeyValue + 1), beginUniqueKeyValue, endUniqueKeyValue);
+        });
+        return result;
+    }
+}
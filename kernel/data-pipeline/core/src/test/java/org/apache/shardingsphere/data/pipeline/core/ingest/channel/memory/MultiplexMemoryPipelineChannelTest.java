@@ -23,6 +23,7 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
@@ -30,9 +31,14 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -62,6 +68,44 @@ class MultiplexMemoryPipelineChannelTest {
         execute(records -> assertThat(records.size(), is(1)), 2, new FinishedRecord(new PlaceholderPosition()));
     }
     
+    @Test
+    void assertAckPositionIsMinimumAcrossChannels() throws InterruptedException, ExecutionException {
+        List<Record> ackedRecords = new CopyOnWriteArrayList<>();
+        MultiplexMemoryPipelineChannel memoryChannel = new MultiplexMemoryPipelineChannel(CHANNEL_NUMBER, 10000, ackedRecords::addAll);
+        DataRecord firstRecord = createDataRecord(1, 0);
+        DataRecord secondRecord = createDataRecord(2, 1);
+        memoryChannel.pushRecord(firstRecord);
+        memoryChannel.pushRecord(secondRecord);
+        ExecutorService firstConsumer = Executors.newSingleThreadExecutor();
+        ExecutorService secondConsumer = Executors.newSingleThreadExecutor();
+        List<Record> firstFetchedRecords = firstConsumer.submit(() -> memoryChannel.fetchRecords(100, 1)).get();
+        List<Record> secondFetchedRecords = secondConsumer.submit(() -> memoryChannel.fetchRecords(100, 1)).get();
+        assertThat(firstFetchedRecords, is(Collections.singletonList(firstRecord)));
+        assertThat(secondFetchedRecords, is(Collections.singletonList(secondRecord)));
+        secondConsumer.submit(() -> memoryChannel.ack(secondFetchedRecords)).get();
+        assertTrue(ackedRecords.isEmpty());
+        firstConsumer.submit(() -> memoryChannel.ack(firstFetchedRecords)).get();
+        assertThat(ackedRecords.size(), is(1));
+        assertThat(((IntPosition) ackedRecords.get(0).getPosition()).getId(), is(2));
+        assertThat(memoryChannel.getAckedRecordsCounts(), is(Arrays.asList(1L, 1L)));
+        firstConsumer.shutdown();
+        secondConsumer.shutdown();
+        memoryChannel.close();
+    }
+    
+    private DataRecord createDataRecord(final int id, final int channelIndex) {
+        int uniqueKeyValue = channelIndex;
+        while (true) {
+            DataRecord result = new DataRecord(new IntPosition(id), 1);
+            result.setTableName("t_order");
+            result.addColumn(new Column("order_id", uniqueKeyValue, true, true));
+            if (Math.abs(result.getKey().hashCode() % CHANNEL_NUMBER) == channelIndex) {
+                return result;
+            }
+            uniqueKeyValue++;
+        }
+    }
+    
     @SneakyThrows(InterruptedException.class)
     private void execute(final AckCallback ackCallback, final int recordCount, final Record... records) {
         CountDownLatch countDownLatch = new CountDownLatch(recordCount);
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class RingBufferPipelineChannelTest {
+    
+    @Test
+    void assertFetchRecordsWithEnoughRecords() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(16, mock(AckCallback.class));
+        for (int i = 0; i < 10; i++) {
+            channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        }
+        assertThat(channel.getQueueDepth(), is(10));
+        assertThat(channel.fetchRecords(8, 10).size(), is(8));
+        assertThat(channel.getQueueDepth(), is(2));
+    }
+    
+    @Test
+    void assertFetchRecordsWithTimeout() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(16, mock(AckCallback.class));
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        assertThat(channel.fetchRecords(8, 0).size(), is(1));
+    }
+    
+    @Test
+    void assertFetchRecordsSignaledByProducer() throws Exception {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(16, mock(AckCallback.class));
+        CompletableFuture<List<Record>> future = CompletableFuture.supplyAsync(() -> channel.fetchRecords(4, 60));
+        for (int i = 0; i < 4; i++) {
+            channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        }
+        assertThat(future.get(10L, TimeUnit.SECONDS).size(), is(4));
+    }
+    
+    @Test
+    void assertPushRecordWithFullBuffer() throws Exception {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(2, mock(AckCallback.class));
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition())));
+        TimeUnit.MILLISECONDS.sleep(200L);
+        assertFalse(future.isDone());
+        List<Record> records = new LinkedList<>();
+        assertThat(channel.drain(records, 1), is(2));
+        future.get(10L, TimeUnit.SECONDS);
+        assertThat(channel.getQueueDepth(), is(2));
+    }
+    
+    @Test
+    void assertCloseWithWaitingProducer() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(2, mock(AckCallback.class));
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition())));
+        channel.close();
+        ExecutionException actual = assertThrows(ExecutionException.class, () -> future.get(10L, TimeUnit.SECONDS));
+        assertThat(actual.getCause(), instanceOf(IllegalStateException.class));
+        assertThat(channel.fetchRecords(8, 10).size(), is(2));
+    }
+    
+    @Test
+    void assertPushRecordIntoFullBufferOfClosedChannel() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(2, mock(AckCallback.class));
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        channel.close();
+        assertThrows(IllegalStateException.class, () -> channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition())));
+        assertThat(channel.getQueueDepth(), is(2));
+    }
+}
@@ -75,6 +75,14 @@ class PipelineSQLBuilderTest {
         assertThat(actual, is("SELECT order_id,user_id,status FROM t_order WHERE order_id>? ORDER BY order_id ASC"));
     }
     
+    @Test
+    void assertBuildSplitByUniqueKeyRangeSQL() {
+        assertThat(pipelineSQLBuilder.buildSplitByUniqueKeyRangeSQL(null, "t_order", "order_id", true),
+                is("SELECT MIN(order_id),MAX(order_id),COUNT(1) FROM (SELECT order_id FROM t_order ORDER BY order_id LIMIT ?) t"));
+        assertThat(pipelineSQLBuilder.buildSplitByUniqueKeyRangeSQL(null, "t_order", "order_id", false),
+                is("SELECT MIN(order_id),MAX(order_id),COUNT(1) FROM (SELECT order_id FROM t_order WHERE order_id>? ORDER BY order_id LIMIT ?) t"));
+    }
+    
     @Test
     void assertBuildInsertSQL() {
         String actual = pipelineSQLBuilder.buildInsertSQL(null, mockDataRecord("t2"));
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -51,6 +52,14 @@ class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM t2"));
     }
     
+    @Test
+    void assertBuildUniqueKeyRangeCRC32SQL() {
+        Optional<String> actual = sqlBuilder.buildUniqueKeyRangeCRC32SQL(null, "t2", Arrays.asList("id", "c1"), "id");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(),
+                is("SELECT BIT_XOR(CAST(CRC32(CONCAT_WS(',',id,c1,ISNULL(id),ISNULL(c1))) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt, MIN(id), MAX(id) FROM t2 WHERE id BETWEEN ? AND ?"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 4);
         result.setTableName(tableName);
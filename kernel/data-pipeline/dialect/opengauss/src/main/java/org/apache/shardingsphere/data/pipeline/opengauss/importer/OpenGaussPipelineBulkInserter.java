@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.opengauss.importer;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.opengauss.sqlbuilder.OpenGaussPipelineSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.postgresql.importer.CopyInDataRecordReader;
+import org.apache.shardingsphere.data.pipeline.spi.importer.PipelineBulkInserter;
+import org.opengauss.PGConnection;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Pipeline bulk inserter of openGauss, which streams data records through {@code COPY ... FROM STDIN}.
+ */
+public final class OpenGaussPipelineBulkInserter implements PipelineBulkInserter {
+    
+    private final OpenGaussPipelineSQLBuilder sqlBuilder = new OpenGaussPipelineSQLBuilder();
+    
+    @Override
+    public boolean isSupported(final List<DataRecord> dataRecords) {
+        return CopyInDataRecordReader.isEncodable(dataRecords);
+    }
+    
+    @Override
+    public void insert(final Connection connection, final String schemaName, final List<DataRecord> dataRecords) throws SQLException {
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sqlBuilder.buildCopyInSQL(schemaName, dataRecords.get(0)), new CopyInDataRecordReader(dataRecords));
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "openGauss";
+    }
+}
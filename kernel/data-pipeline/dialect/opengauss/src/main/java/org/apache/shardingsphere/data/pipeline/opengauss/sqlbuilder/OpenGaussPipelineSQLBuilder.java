@@ -72,6 +72,22 @@ public final class OpenGaussPipelineSQLBuilder extends AbstractPipelineSQLBuilde
         return super.buildInsertSQL(schemaName, dataRecord) + buildConflictSQL(dataRecord);
     }
     
+    /**
+     * Build copy in SQL.
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record
+     * @return copy in SQL
+     */
+    public String buildCopyInSQL(final String schemaName, final DataRecord dataRecord) {
+        StringBuilder columnsLiteral = new StringBuilder();
+        for (Column each : dataRecord.getColumns()) {
+            columnsLiteral.append(quote(each.getName())).append(",");
+        }
+        columnsLiteral.setLength(columnsLiteral.length() - 1);
+        return String.format("COPY %s(%s) FROM STDIN", getQualifiedTableName(schemaName, dataRecord.getTableName()), columnsLiteral);
+    }
+    
     @Override
     public List<Column> extractUpdatedColumns(final DataRecord record) {
         return record.getColumns().stream().filter(each -> !(each.isUniqueKey())).collect(Collectors.toList());
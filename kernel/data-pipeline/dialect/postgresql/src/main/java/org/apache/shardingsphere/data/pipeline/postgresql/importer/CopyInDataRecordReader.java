@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Reader which encodes data records into text format of {@code COPY ... FROM STDIN} lazily.
+ *
+ * <p>
+ * Only values which have unambiguous text representations are supported, other values should fall back to batch insert.
+ * </p>
+ */
+public final class CopyInDataRecordReader extends Reader {
+    
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    
+    private final Iterator<DataRecord> dataRecords;
+    
+    private String currentLine = "";
+    
+    private int position;
+    
+    public CopyInDataRecordReader(final List<DataRecord> dataRecords) {
+        this.dataRecords = dataRecords.iterator();
+    }
+    
+    /**
+     * Judge whether data records are encodable.
+     *
+     * @param dataRecords data records
+     * @return data records are encodable or not
+     */
+    public static boolean isEncodable(final List<DataRecord> dataRecords) {
+        for (DataRecord each : dataRecords) {
+            for (int i = 0; i < each.getColumnCount(); i++) {
+                if (!isEncodable(each.getColumn(i).getValue())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isEncodable(final Object value) {
+        return null == value || value instanceof String || value instanceof Boolean || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof BigInteger || value instanceof BigDecimal || value instanceof Float || value instanceof Double || value instanceof byte[]
+                || value instanceof Timestamp || value instanceof Date || value instanceof LocalDate || value instanceof LocalDateTime;
+    }
+    
+    @Override
+    public int read(final char[] buffer, final int offset, final int length) {
+        if (0 == length) {
+            return 0;
+        }
+        int result = 0;
+        while (result < length) {
+            if (position == currentLine.length()) {
+                if (!dataRecords.hasNext()) {
+                    break;
+                }
+                currentLine = encode(dataRecords.next());
+                position = 0;
+            }
+            int count = Math.min(length - result, currentLine.length() - position);
+            currentLine.getChars(position, position + count, buffer, offset + result);
+            position += count;
+            result += count;
+        }
+        return 0 == result ? -1 : result;
+    }
+    
+    private String encode(final DataRecord dataRecord) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (i > 0) {
+                result.append('\t');
+            }
+            appendValue(result, dataRecord.getColumn(i).getValue());
+        }
+        return result.append('\n').toString();
+    }
+    
+    private void appendValue(final StringBuilder line, final Object value) {
+        if (null == value) {
+            line.append("\\N");
+        } else if (value instanceof String) {
+            appendEscaped(line, (String) value);
+        } else if (value instanceof Boolean) {
+            line.append((Boolean) value ? 't' : 'f');
+        } else if (value instanceof BigDecimal) {
+            line.append(((BigDecimal) value).toPlainString());
+        } else if (value instanceof byte[]) {
+            appendHex(line, (byte[]) value);
+        } else if (value instanceof Timestamp) {
+            line.append(((Timestamp) value).toInstant().atZone(ZoneId.systemDefault()).toOffsetDateTime());
+        } else {
+            line.append(value);
+        }
+    }
+    
+    private void appendEscaped(final StringBuilder line, final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            switch (each) {
+                case '\\':
+                    line.append("\\\\");
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    line.append("\\r");
+                    break;
+                case '\t':
+                    line.append("\\t");
+                    break;
+                default:
+                    line.append(each);
+                    break;
+            }
+        }
+    }
+    
+    private void appendHex(final StringBuilder line, final byte[] value) {
+        line.append("\\\\x");
+        for (byte each : value) {
+            line.append(HEX_DIGITS[each >> 4 & 0xF]).append(HEX_DIGITS[each & 0xF]);
+        }
+    }
+    
+    @Override
+    public void close() {
+    }
+}
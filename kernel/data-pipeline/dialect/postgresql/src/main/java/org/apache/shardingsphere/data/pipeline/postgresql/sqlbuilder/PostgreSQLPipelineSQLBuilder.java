@@ -73,6 +73,22 @@ public final class PostgreSQLPipelineSQLBuilder extends AbstractPipelineSQLBuild
         return result + buildConflictSQL(dataRecord);
     }
     
+    /**
+     * Build copy in SQL.
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record
+     * @return copy in SQL
+     */
+    public String buildCopyInSQL(final String schemaName, final DataRecord dataRecord) {
+        StringBuilder columnsLiteral = new StringBuilder();
+        for (Column each : dataRecord.getColumns()) {
+            columnsLiteral.append(quote(each.getName())).append(",");
+        }
+        columnsLiteral.setLength(columnsLiteral.length() - 1);
+        return String.format("COPY %s(%s) FROM STDIN", getQualifiedTableName(schemaName, dataRecord.getTableName()), columnsLiteral);
+    }
+    
     // Refer to https://www.postgresql.org/docs/current/sql-insert.html
     private String buildConflictSQL(final DataRecord dataRecord) {
         StringBuilder result = new StringBuilder(" ON CONFLICT (");
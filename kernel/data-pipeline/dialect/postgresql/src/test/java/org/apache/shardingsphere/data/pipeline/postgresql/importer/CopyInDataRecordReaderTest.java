@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CopyInDataRecordReaderTest {
+    
+    @Test
+    void assertRead() throws IOException {
+        DataRecord first = createDataRecord(1, "a\tb\\c\nd", new BigDecimal("1E+2"), true, null);
+        DataRecord second = createDataRecord(2L, "ok", LocalDate.of(2023, 1, 2), false, new byte[]{0x0F, (byte) 0xA0});
+        try (BufferedReader reader = new BufferedReader(new CopyInDataRecordReader(Arrays.asList(first, second)), 4)) {
+            assertThat(reader.lines().collect(Collectors.joining("|")), is("1\ta\\tb\\\\c\\nd\t100\tt\t\\N|2\tok\t2023-01-02\tf\t\\\\x0fa0"));
+        }
+    }
+    
+    @Test
+    void assertReadTimestamp() throws IOException {
+        Instant instant = Instant.parse("2023-03-26T01:30:00.123456789Z");
+        try (BufferedReader reader = new BufferedReader(new CopyInDataRecordReader(Collections.singletonList(createDataRecord(1, Timestamp.from(instant)))))) {
+            assertThat(reader.readLine(), is("1\t" + OffsetDateTime.ofInstant(instant, ZoneId.systemDefault())));
+        }
+    }
+    
+    @Test
+    void assertReadEmpty() {
+        assertThat(new CopyInDataRecordReader(Collections.emptyList()).read(new char[8], 0, 8), is(-1));
+    }
+    
+    @Test
+    void assertIsEncodable() {
+        assertTrue(CopyInDataRecordReader.isEncodable(Collections.singletonList(createDataRecord(1, "ok", 1.5D, true, null))));
+        assertFalse(CopyInDataRecordReader.isEncodable(Collections.singletonList(createDataRecord(1, "ok", new Time(0L), true, null))));
+    }
+    
+    private DataRecord createDataRecord(final Object... values) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), values.length);
+        result.setTableName("t_order");
+        for (int i = 0; i < values.length; i++) {
+            result.addColumn(new Column("c" + i, values[i], true, 0 == i));
+        }
+        return result;
+    }
+}
@@ -41,6 +41,11 @@ class PostgreSQLPipelineSQLBuilderTest {
                 + " DO UPDATE SET user_id=EXCLUDED.user_id,status=EXCLUDED.status"));
     }
     
+    @Test
+    void assertBuildCopyInSQL() {
+        assertThat(sqlBuilder.buildCopyInSQL("schema1", mockDataRecord()), is("COPY schema1.t_order(order_id,user_id,status) FROM STDIN"));
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(new WALPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L))), 2);
         result.setTableName("t_order");
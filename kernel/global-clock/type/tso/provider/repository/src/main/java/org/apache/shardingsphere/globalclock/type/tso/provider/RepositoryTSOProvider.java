@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import com.google.common.base.Strings;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.globalclock.core.exception.TimestampBlockLeaseFailedException;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.lock.DistributedLock;
+
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Repository timestamp oracle provider.
+ *
+ * <p>
+ * Timestamps are hybrid of physical milliseconds in high bits and logical counter in low bits.
+ * Timestamp blocks are leased from the cluster persist repository under distributed lock, and every block starts above both the stored high-water mark and the wall clock,
+ * so timestamps are unique across instances which share the repository.
+ * Timestamps inside a leased block are allocated without lock, and the next block is leased asynchronously when half of current block is allocated.
+ * Every block expires after block lifetime, and is replaced by a new block leased in background when half of its lifetime is passed,
+ * so a snapshot timestamp is greater than commit timestamps taken on other instances more than block lifetime plus clock skew earlier.
+ * Block is leased synchronously only if it is expired or exhausted before the background lease completes.
+ * The provider is initialized once by rule properties, later initialization with empty properties from transaction hook is skipped.
+ * </p>
+ */
+@Slf4j
+public final class RepositoryTSOProvider implements TSOProvider {
+    
+    private static final String REPOSITORY_TYPE_KEY = "repository-type";
+    
+    private static final String NAMESPACE_KEY = "namespace";
+    
+    private static final String SERVER_LISTS_KEY = "server-lists";
+    
+    private static final String BLOCK_SIZE_KEY = "block-size";
+    
+    private static final String LEASE_TIMEOUT_MILLISECONDS_KEY = "lease-timeout-milliseconds";
+    
+    private static final String BLOCK_LIFETIME_MILLISECONDS_KEY = "block-lifetime-milliseconds";
+    
+    private static final String DEFAULT_NAMESPACE = "governance_ds";
+    
+    private static final long DEFAULT_BLOCK_SIZE = 10000L;
+    
+    private static final long DEFAULT_LEASE_TIMEOUT_MILLISECONDS = 3000L;
+    
+    private static final long DEFAULT_BLOCK_LIFETIME_MILLISECONDS = 1000L;
+    
+    private static final String TIMESTAMP_KEY = "/global_clock/tso/timestamp";
+    
+    private static final String TIMESTAMP_LOCK_KEY = "/global_clock/tso/lock";
+    
+    private static final int LOGICAL_BITS = 16;
+    
+    private final LongSupplier currentMillisSupplier;
+    
+    private final ExecutorService leaseExecutor = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("TSO-lease-%d"));
+    
+    private final ScheduledExecutorService refreshExecutor = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("TSO-refresh-%d"));
+    
+    private Properties initProps;
+    
+    private ClusterPersistRepository repository;
+    
+    private long blockSize;
+    
+    private long leaseTimeoutMillis;
+    
+    private long blockLifetimeMillis;
+    
+    private volatile TimestampBlock currentBlock;
+    
+    private CompletableFuture<TimestampBlock> nextBlock;
+    
+    public RepositoryTSOProvider() {
+        this(System::currentTimeMillis);
+    }
+    
+    RepositoryTSOProvider(final LongSupplier currentMillisSupplier) {
+        this.currentMillisSupplier = currentMillisSupplier;
+    }
+    
+    @Override
+    public synchronized void init(final Properties props) {
+        if (null != repository) {
+            if (!props.isEmpty() && !props.equals(initProps)) {
+                log.warn("Repository timestamp oracle is already initialized with props `{}`, ignore props `{}`.", initProps, props);
+            }
+            return;
+        }
+        ShardingSpherePreconditions.checkState(props.containsKey(REPOSITORY_TYPE_KEY),
+                () -> new IllegalArgumentException(String.format("Property `%s` of repository timestamp oracle is required.", REPOSITORY_TYPE_KEY)));
+        blockSize = Long.parseLong(props.getProperty(BLOCK_SIZE_KEY, String.valueOf(DEFAULT_BLOCK_SIZE)));
+        ShardingSpherePreconditions.checkState(blockSize > 1L, () -> new IllegalArgumentException("Block size of timestamp oracle must be greater than 1."));
+        leaseTimeoutMillis = Long.parseLong(props.getProperty(LEASE_TIMEOUT_MILLISECONDS_KEY, String.valueOf(DEFAULT_LEASE_TIMEOUT_MILLISECONDS)));
+        blockLifetimeMillis = Long.parseLong(props.getProperty(BLOCK_LIFETIME_MILLISECONDS_KEY, String.valueOf(DEFAULT_BLOCK_LIFETIME_MILLISECONDS)));
+        ShardingSpherePreconditions.checkState(blockLifetimeMillis > 1L, () -> new IllegalArgumentException("Block lifetime of timestamp oracle must be greater than 1 millisecond."));
+        String repositoryType = props.getProperty(REPOSITORY_TYPE_KEY);
+        ClusterPersistRepository persistRepository = TypedSPILoader.getService(ClusterPersistRepository.class, repositoryType);
+        persistRepository.init(new ClusterPersistRepositoryConfiguration(repositoryType, props.getProperty(NAMESPACE_KEY, DEFAULT_NAMESPACE), props.getProperty(SERVER_LISTS_KEY), props));
+        repository = persistRepository;
+        initProps = props;
+        currentBlock = leaseBlock();
+        refreshExecutor.scheduleWithFixedDelay(this::refreshAgingBlock, blockLifetimeMillis / 2L, blockLifetimeMillis / 2L, TimeUnit.MILLISECONDS);
+    }
+    
+    @Override
+    public long getCurrentTimestamp() {
+        return getFreshBlock().getCurrentTimestamp();
+    }
+    
+    @Override
+    public long getNextTimestamp() {
+        while (true) {
+            TimestampBlock block = getFreshBlock();
+            long result = block.allocate();
+            if (result <= block.getEnd()) {
+                if (result == block.getStart() + (blockSize + 1L) / 2L) {
+                    prefetchNextBlock();
+                }
+                return result;
+            }
+            switchToNextBlock(block);
+        }
+    }
+    
+    private TimestampBlock getFreshBlock() {
+        TimestampBlock result = currentBlock;
+        return isExpired(result) ? renewExpiredBlock(result) : result;
+    }
+    
+    private boolean isExpired(final TimestampBlock block) {
+        return currentMillisSupplier.getAsLong() >= block.getExpireMillis();
+    }
+    
+    private synchronized TimestampBlock renewExpiredBlock(final TimestampBlock expiredBlock) {
+        if (currentBlock == expiredBlock) {
+            replaceCurrentBlock(leaseBlock());
+        }
+        return currentBlock;
+    }
+    
+    private void refreshAgingBlock() {
+        if (currentMillisSupplier.getAsLong() < currentBlock.getExpireMillis() - blockLifetimeMillis / 2L) {
+            return;
+        }
+        TimestampBlock block;
+        try {
+            block = leaseBlock();
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Lease timestamp block in background failed.", ex);
+            return;
+        }
+        synchronized (this) {
+            if (block.getStart() > currentBlock.getEnd()) {
+                replaceCurrentBlock(block);
+            }
+        }
+    }
+    
+    private void replaceCurrentBlock(final TimestampBlock block) {
+        currentBlock = block;
+        nextBlock = null;
+    }
+    
+    private synchronized void prefetchNextBlock() {
+        if (null == nextBlock) {
+            nextBlock = CompletableFuture.supplyAsync(this::leaseBlock, leaseExecutor);
+        }
+    }
+    
+    private synchronized void switchToNextBlock(final TimestampBlock exhaustedBlock) {
+        if (currentBlock != exhaustedBlock) {
+            return;
+        }
+        prefetchNextBlock();
+        try {
+            TimestampBlock block = nextBlock.join();
+            replaceCurrentBlock(block.getStart() > exhaustedBlock.getEnd() && !isExpired(block) ? block : leaseBlock());
+        } finally {
+            nextBlock = null;
+        }
+    }
+    
+    private TimestampBlock leaseBlock() {
+        DistributedLock lock = repository.getDistributedLockHolder().getDistributedLock(TIMESTAMP_LOCK_KEY);
+        ShardingSpherePreconditions.checkState(lock.tryLock(leaseTimeoutMillis), () -> new TimestampBlockLeaseFailedException(TIMESTAMP_KEY, leaseTimeoutMillis));
+        try {
+            String leasedTimestamp = repository.getDirectly(TIMESTAMP_KEY);
+            long currentMillis = currentMillisSupplier.getAsLong();
+            long start = Math.max(Strings.isNullOrEmpty(leasedTimestamp) ? 0L : Long.parseLong(leasedTimestamp), currentMillis << LOGICAL_BITS) + 1L;
+            long end = start + blockSize - 1L;
+            repository.persist(TIMESTAMP_KEY, String.valueOf(end));
+            return new TimestampBlock(start, end, currentMillis + blockLifetimeMillis);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "TSO.repository";
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Timestamp block.
+ *
+ * <p>
+ * Timestamps in range of [start, end] are leased to current instance exclusively, start is current timestamp before any allocation.
+ * The block should not be used after expire time in milliseconds.
+ * </p>
+ */
+public final class TimestampBlock {
+    
+    @Getter
+    private final long start;
+    
+    @Getter
+    private final long end;
+    
+    @Getter
+    private final long expireMillis;
+    
+    private final AtomicLong cursor;
+    
+    public TimestampBlock(final long start, final long end, final long expireMillis) {
+        this.start = start;
+        this.end = end;
+        this.expireMillis = expireMillis;
+        cursor = new AtomicLong(start);
+    }
+    
+    /**
+     * Get current timestamp.
+     *
+     * @return current timestamp
+     */
+    public long getCurrentTimestamp() {
+        return Math.min(cursor.get(), end);
+    }
+    
+    /**
+     * Allocate next timestamp.
+     *
+     * @return next timestamp, greater than end if the block is exhausted
+     */
+    public long allocate() {
+        return cursor.incrementAndGet();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import org.apache.shardingsphere.globalclock.type.tso.provider.fixture.ClusterPersistRepositoryFixture;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RepositoryTSOProviderTest {
+    
+    private static final String TIMESTAMP_KEY = "/global_clock/tso/timestamp";
+    
+    private static final long BLOCK_LIFETIME_MILLISECONDS = 1000L;
+    
+    @BeforeEach
+    void setUp() {
+        new ClusterPersistRepositoryFixture().close();
+    }
+    
+    @Test
+    void assertGetCurrentTimestamp() {
+        RepositoryTSOProvider provider = createProvider(() -> 1L);
+        assertThat(provider.getCurrentTimestamp(), is(65537L));
+        assertThat(provider.getNextTimestamp(), is(65538L));
+        assertThat(provider.getCurrentTimestamp(), is(65538L));
+    }
+    
+    @Test
+    void assertGetNextTimestampAcrossBlocks() {
+        RepositoryTSOProvider provider = createProvider(() -> 1L);
+        long lastTimestamp = provider.getCurrentTimestamp();
+        for (int i = 0; i < 35; i++) {
+            long timestamp = provider.getNextTimestamp();
+            assertTrue(timestamp > lastTimestamp);
+            assertThat(provider.getCurrentTimestamp(), is(timestamp));
+            lastTimestamp = timestamp;
+        }
+        assertThat(lastTimestamp, is(65575L));
+    }
+    
+    @Test
+    void assertGetNextTimestampWithMultipleProviders() {
+        RepositoryTSOProvider provider0 = createProvider(() -> 1L);
+        RepositoryTSOProvider provider1 = createProvider(() -> 1L);
+        Set<Long> actual = new HashSet<>(100, 1F);
+        for (int i = 0; i < 50; i++) {
+            actual.add(provider0.getNextTimestamp());
+            actual.add(provider1.getNextTimestamp());
+        }
+        assertThat(actual.size(), is(100));
+    }
+    
+    @Test
+    void assertNotLeaseBlockWhenTimeMovesForwardWithinBlockLifetime() {
+        AtomicLong currentMillis = new AtomicLong(1L);
+        RepositoryTSOProvider provider = createProvider(currentMillis::get);
+        String leasedTimestamp = new ClusterPersistRepositoryFixture().getDirectly(TIMESTAMP_KEY);
+        long lastTimestamp = provider.getCurrentTimestamp();
+        for (int i = 0; i < 4; i++) {
+            currentMillis.addAndGet(5L);
+            long timestamp = provider.getNextTimestamp();
+            assertTrue(timestamp > lastTimestamp);
+            assertThat(provider.getCurrentTimestamp(), is(timestamp));
+            lastTimestamp = timestamp;
+        }
+        assertThat(new ClusterPersistRepositoryFixture().getDirectly(TIMESTAMP_KEY), is(leasedTimestamp));
+    }
+    
+    @Test
+    void assertCommitTimestampVisibleToLaterSnapshotOfAnotherProvider() {
+        AtomicLong currentMillis = new AtomicLong(1L);
+        RepositoryTSOProvider provider0 = createProvider(currentMillis::get);
+        RepositoryTSOProvider provider1 = createProvider(currentMillis::get);
+        for (int i = 0; i < 50; i++) {
+            long commitTimestamp0 = commit(provider0);
+            currentMillis.addAndGet(BLOCK_LIFETIME_MILLISECONDS);
+            assertTrue(provider1.getCurrentTimestamp() > commitTimestamp0);
+            long commitTimestamp1 = commit(provider1);
+            currentMillis.addAndGet(BLOCK_LIFETIME_MILLISECONDS);
+            assertTrue(provider0.getCurrentTimestamp() > commitTimestamp1);
+        }
+    }
+    
+    @Test
+    void assertInitWithoutRepositoryType() {
+        assertThrows(IllegalArgumentException.class, () -> new RepositoryTSOProvider().init(PropertiesBuilder.build(new Property("block-size", "10"))));
+    }
+    
+    @Test
+    void assertInitAgainAfterInitialized() {
+        RepositoryTSOProvider provider = createProvider(() -> 1L);
+        provider.init(new Properties());
+        provider.init(PropertiesBuilder.build(new Property("repository-type", "FIXTURE"), new Property("block-size", "1000")));
+        for (int i = 0; i < 10; i++) {
+            provider.getNextTimestamp();
+        }
+        assertThat(new ClusterPersistRepositoryFixture().getDirectly(TIMESTAMP_KEY), is("65556"));
+    }
+    
+    private long commit(final RepositoryTSOProvider provider) {
+        long result = provider.getCurrentTimestamp();
+        provider.getNextTimestamp();
+        return result;
+    }
+    
+    private RepositoryTSOProvider createProvider(final LongSupplier currentMillisSupplier) {
+        RepositoryTSOProvider result = new RepositoryTSOProvider(currentMillisSupplier);
+        result.init(PropertiesBuilder.build(new Property("repository-type", "FIXTURE"), new Property("block-size", "10"),
+                new Property("block-lifetime-milliseconds", String.valueOf(BLOCK_LIFETIME_MILLISECONDS))));
+        return result;
+    }
+}
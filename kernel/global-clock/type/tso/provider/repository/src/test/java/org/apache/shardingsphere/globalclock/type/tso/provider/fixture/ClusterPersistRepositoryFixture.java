@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider.fixture;
+
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
+import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
+import org.apache.shardingsphere.mode.repository.cluster.lock.impl.props.DefaultLockTypedProperties;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+public final class ClusterPersistRepositoryFixture implements ClusterPersistRepository {
+    
+    private static final Map<String, String> REGISTRY_DATA = new ConcurrentHashMap<>();
+    
+    private final DistributedLockHolder distributedLockHolder = new DistributedLockHolder("default", this, new DefaultLockTypedProperties(new Properties()));
+    
+    @Override
+    public void init(final ClusterPersistRepositoryConfiguration config) {
+    }
+    
+    @Override
+    public String getDirectly(final String key) {
+        return REGISTRY_DATA.get(key);
+    }
+    
+    @Override
+    public List<String> getChildrenKeys(final String key) {
+        return REGISTRY_DATA.keySet().stream().filter(each -> each.startsWith(key + "/")).collect(Collectors.toList());
+    }
+    
+    @Override
+    public boolean isExisted(final String key) {
+        return REGISTRY_DATA.containsKey(key);
+    }
+    
+    @Override
+    public void persist(final String key, final String value) {
+        REGISTRY_DATA.put(key, value);
+    }
+    
+    @Override
+    public void update(final String key, final String value) {
+        REGISTRY_DATA.put(key, value);
+    }
+    
+    @Override
+    public void persistEphemeral(final String key, final String value) {
+        REGISTRY_DATA.put(key, value);
+    }
+    
+    @Override
+    public void persistExclusiveEphemeral(final String key, final String value) {
+        if (null != REGISTRY_DATA.putIfAbsent(key, value)) {
+            throw new IllegalStateException(String.format("Key `%s` already exists.", key));
+        }
+    }
+    
+    @Override
+    public DistributedLockHolder getDistributedLockHolder() {
+        return distributedLockHolder;
+    }
+    
+    @Override
+    public void delete(final String key) {
+        REGISTRY_DATA.remove(key);
+    }
+    
+    @Override
+    public void watch(final String key, final DataChangedEventListener listener) {
+    }
+    
+    @Override
+    public void close() {
+        REGISTRY_DATA.clear();
+    }
+    
+    @Override
+    public String getType() {
+        return "FIXTURE";
+    }
+}
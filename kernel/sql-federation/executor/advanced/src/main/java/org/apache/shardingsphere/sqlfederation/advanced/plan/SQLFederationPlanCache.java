@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.advanced.plan;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Supplier;
+
+/**
+ * SQL federation plan cache.
+ *
+ * <p>
+ * Compiled plans are cached by database name, schema name and SQL, so re-executions of the same SQL skip validation, optimization and code generation.
+ * Tables are resolved from the root schema of data context when binding, so a plan can be bound to the schema of every execution.
+ * A cached plan is only reused when the meta data objects of the tables in SQL are the same ones the plan was created with, so refreshed meta data invalidates it.
+ * </p>
+ */
+public final class SQLFederationPlanCache {
+    
+    private static final int MAX_PLAN_COUNT = 256;
+    
+    private final Map<PlanKey, CachedPlan> plans = new LinkedHashMap<PlanKey, CachedPlan>(16, 0.75F, true) {
+        
+        @Override
+        protected boolean removeEldestEntry(final Entry<PlanKey, CachedPlan> eldest) {
+            return size() > MAX_PLAN_COUNT;
+        }
+    };
+    
+    /**
+     * Get cached plan or create and cache a new one.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param sql SQL
+     * @param metaDataVersion meta data objects of tables in SQL
+     * @param planCreator plan creator
+     * @return SQL federation plan
+     */
+    public SQLFederationPlan getPlan(final String databaseName, final String schemaName, final String sql, final List<Object> metaDataVersion, final Supplier<SQLFederationPlan> planCreator) {
+        PlanKey planKey = new PlanKey(databaseName, schemaName, sql);
+        CachedPlan cachedPlan;
+        synchronized (plans) {
+            cachedPlan = plans.get(planKey);
+        }
+        if (null != cachedPlan && cachedPlan.isSameMetaDataVersion(metaDataVersion)) {
+            SQLFederationPlanCacheStatistics.recordHit(databaseName);
+            return cachedPlan.plan;
+        }
+        long startTime = System.nanoTime();
+        SQLFederationPlan result = planCreator.get();
+        SQLFederationPlanCacheStatistics.recordMiss(databaseName, System.nanoTime() - startTime);
+        synchronized (plans) {
+            plans.put(planKey, new CachedPlan(result, metaDataVersion));
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class PlanKey {
+        
+        private final String databaseName;
+        
+        private final String schemaName;
+        
+        private final String sql;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CachedPlan {
+        
+        private final SQLFederationPlan plan;
+        
+        private final List<Object> metaDataVersion;
+        
+        private boolean isSameMetaDataVersion(final List<Object> metaDataVersion) {
+            if (this.metaDataVersion.size() != metaDataVersion.size()) {
+                return false;
+            }
+            for (int i = 0; i < metaDataVersion.size(); i++) {
+                if (this.metaDataVersion.get(i) != metaDataVersion.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
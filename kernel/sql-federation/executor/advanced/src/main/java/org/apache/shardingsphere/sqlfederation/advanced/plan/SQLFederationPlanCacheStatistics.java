@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.advanced.plan;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL federation plan cache statistics.
+ */
+public final class SQLFederationPlanCacheStatistics {
+    
+    private static final Map<String, SQLFederationPlanCacheStatistics> STATISTICS = new ConcurrentHashMap<>();
+    
+    private final LongAdder hitCount = new LongAdder();
+    
+    private final LongAdder missCount = new LongAdder();
+    
+    private final LongAdder planningNanos = new LongAdder();
+    
+    /**
+     * Record plan found from cache.
+     *
+     * @param databaseName database name
+     */
+    public static void recordHit(final String databaseName) {
+        STATISTICS.computeIfAbsent(databaseName, key -> new SQLFederationPlanCacheStatistics()).hitCount.increment();
+    }
+    
+    /**
+     * Record plan created without cache.
+     *
+     * @param databaseName database name
+     * @param planningNanos planning time in nanoseconds
+     */
+    public static void recordMiss(final String databaseName, final long planningNanos) {
+        SQLFederationPlanCacheStatistics statistics = STATISTICS.computeIfAbsent(databaseName, key -> new SQLFederationPlanCacheStatistics());
+        statistics.missCount.increment();
+        statistics.planningNanos.add(planningNanos);
+    }
+    
+    /**
+     * Get all statistics.
+     *
+     * @return database name and statistics map
+     */
+    public static Map<String, SQLFederationPlanCacheStatistics> getAll() {
+        return Collections.unmodifiableMap(STATISTICS);
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+    
+    /**
+     * Get total planning time of missed plans.
+     *
+     * @return planning time in milliseconds
+     */
+    public long getPlanningTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(planningNanos.sum());
+    }
+}
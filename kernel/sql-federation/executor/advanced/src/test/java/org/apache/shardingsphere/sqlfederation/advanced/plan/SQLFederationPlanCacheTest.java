@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.advanced.plan;
+
+import org.apache.calcite.runtime.Bindable;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SQLFederationPlanCacheTest {
+    
+    @Test
+    void assertGetPlanFromCache() {
+        SQLFederationPlanCache planCache = new SQLFederationPlanCache();
+        Object table = new Object();
+        AtomicInteger createdCount = new AtomicInteger();
+        SQLFederationPlan expected = planCache.getPlan("plan_cache_db", "public", "SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(table), () -> createPlan(createdCount));
+        SQLFederationPlan actual = planCache.getPlan("plan_cache_db", "public", "SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(table), () -> createPlan(createdCount));
+        assertThat(actual, sameInstance(expected));
+        assertThat(createdCount.get(), is(1));
+        SQLFederationPlanCacheStatistics statistics = SQLFederationPlanCacheStatistics.getAll().get("plan_cache_db");
+        assertThat(statistics.getHitCount(), is(1L));
+        assertThat(statistics.getMissCount(), is(1L));
+    }
+    
+    @Test
+    void assertGetPlanWithRefreshedMetaData() {
+        SQLFederationPlanCache planCache = new SQLFederationPlanCache();
+        AtomicInteger createdCount = new AtomicInteger();
+        SQLFederationPlan expected = planCache.getPlan("refreshed_db", "public", "SELECT * FROM t_order", Collections.singletonList(new Object()), () -> createPlan(createdCount));
+        SQLFederationPlan actual = planCache.getPlan("refreshed_db", "public", "SELECT * FROM t_order", Collections.singletonList(new Object()), () -> createPlan(createdCount));
+        assertThat(actual, not(sameInstance(expected)));
+        assertThat(createdCount.get(), is(2));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private SQLFederationPlan createPlan(final AtomicInteger createdCount) {
+        createdCount.incrementAndGet();
+        return new SQLFederationPlan(mock(Bindable.class), null);
+    }
+}
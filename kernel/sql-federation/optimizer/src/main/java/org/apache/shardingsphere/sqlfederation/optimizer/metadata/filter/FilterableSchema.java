@@ -47,18 +47,23 @@ public final class FilterableSchema extends AbstractSchema {
     private final Map<String, Table> tableMap;
     
     public FilterableSchema(final String schemaName, final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory, final TableScanExecutor executor) {
+        this(schemaName, schema, protocolType, javaTypeFactory, executor, Collections.emptyMap());
+    }
+    
+    public FilterableSchema(final String schemaName, final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory, final TableScanExecutor executor,
+                            final Map<String, Double> tableRowCounts) {
         name = schemaName;
-        tableMap = createTableMap(schema, protocolType, javaTypeFactory, executor);
+        tableMap = createTableMap(schema, protocolType, javaTypeFactory, executor, tableRowCounts);
     }
     
-    private Map<String, Table> createTableMap(final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory, final TableScanExecutor executor) {
+    private Map<String, Table> createTableMap(final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory, final TableScanExecutor executor,
+                                              final Map<String, Double> tableRowCounts) {
         Map<String, Table> result = new LinkedHashMap<>(schema.getTables().size(), 1);
         for (ShardingSphereTable each : schema.getTables().values()) {
             if (schema.containsView(each.getName())) {
                 result.put(each.getName(), getViewTable(schema, protocolType, each, javaTypeFactory));
             } else {
-                // TODO implement table statistic logic after using custom operators
-                result.put(each.getName(), new FilterableTable(each, executor, new FederationStatistic(), protocolType));
+                result.put(each.getName(), new FilterableTable(each, executor, new FederationStatistic(tableRowCounts.get(each.getName().toLowerCase())), protocolType));
             }
         }
         return result;
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic;
 
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
@@ -28,9 +30,22 @@ import java.util.List;
 
 /**
  * Statistic of federation table.
+ *
+ * <p>
+ * Unique keys are not reported, because unique keys of logic table are only unique in every actual table.
+ * </p>
  */
+@NoArgsConstructor
+@AllArgsConstructor
 public final class FederationStatistic implements Statistic {
     
+    private Double rowCount;
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
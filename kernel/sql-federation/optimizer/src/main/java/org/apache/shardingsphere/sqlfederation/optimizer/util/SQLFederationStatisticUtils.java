@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL federation statistic utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFederationStatisticUtils {
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final int LOGIC_DATABASE_NAME_INDEX = 1;
+    
+    private static final int LOGIC_TABLE_NAME_INDEX = 2;
+    
+    private static final int ROW_COUNT_INDEX = 5;
+    
+    private static final double UNKNOWN_ROW_COUNT = Double.NaN;
+    
+    /**
+     * Load row counts of logic tables.
+     *
+     * <p>
+     * Row counts are summed up from the statistics of actual tables, which are collected from the statistics views of storage nodes and persisted with ShardingSphere data.
+     * Statistics views may report negative estimates (e.g. -1 for tables never analyzed), so a logic table with any negative actual table row count is treated as unknown
+     * and left out of the result, which makes the optimizer fall back to the default statistic.
+     * </p>
+     *
+     * @param data ShardingSphere data
+     * @param databaseName database name
+     * @return row counts of logic tables, key is lower case logic table name
+     */
+    public static Map<String, Double> loadTableRowCounts(final ShardingSphereData data, final String databaseName) {
+        if (null == data) {
+            return Collections.emptyMap();
+        }
+        Map<String, Double> result = new HashMap<>();
+        for (ShardingSphereDatabaseData databaseData : data.getDatabaseData().values()) {
+            for (ShardingSphereSchemaData schemaData : databaseData.getSchemaData().values()) {
+                ShardingSphereTableData tableData = schemaData.getTable(SHARDING_TABLE_STATISTICS);
+                if (null != tableData) {
+                    tableData.getRows().forEach(each -> addTableRowCount(each.getRows(), databaseName, result));
+                }
+            }
+        }
+        result.values().removeIf(each -> each.isNaN());
+        return result;
+    }
+    
+    private static void addTableRowCount(final List<Object> row, final String databaseName, final Map<String, Double> tableRowCounts) {
+        if (row.size() <= ROW_COUNT_INDEX || null == row.get(ROW_COUNT_INDEX) || !databaseName.equalsIgnoreCase(String.valueOf(row.get(LOGIC_DATABASE_NAME_INDEX)))) {
+            return;
+        }
+        Object rowCount = row.get(ROW_COUNT_INDEX);
+        double value = rowCount instanceof Number ? ((Number) rowCount).doubleValue() : Double.parseDouble(rowCount.toString());
+        tableRowCounts.merge(String.valueOf(row.get(LOGIC_TABLE_NAME_INDEX)).toLowerCase(), value < 0D ? UNKNOWN_ROW_COUNT : value, Double::sum);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.util;
+
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLFederationStatisticUtilsTest {
+    
+    @Test
+    void assertLoadTableRowCounts() {
+        Map<String, Double> actual = SQLFederationStatisticUtils.loadTableRowCounts(createShardingSphereData(), "sharding_db");
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("t_order"), is(3000D));
+        assertThat(actual.get("t_order_item"), is(500D));
+    }
+    
+    @Test
+    void assertLoadTableRowCountsWithNegativeRowCount() {
+        ShardingSphereData data = createShardingSphereData();
+        ShardingSphereTableData tableData = data.getDatabase("shardingsphere").getSchema("shardingsphere").getTable("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(5, "sharding_db", "t_order", "ds_1", "t_order_3", new BigDecimal("-1"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(6, "sharding_db", "t_order", "ds_0", "t_order_4", new BigDecimal("10"), BigDecimal.ZERO)));
+        Map<String, Double> actual = SQLFederationStatisticUtils.loadTableRowCounts(data, "sharding_db");
+        assertThat(actual.size(), is(1));
+        assertFalse(actual.containsKey("t_order"));
+        assertThat(actual.get("t_order_item"), is(500D));
+    }
+    
+    @Test
+    void assertLoadTableRowCountsWithoutData() {
+        assertTrue(SQLFederationStatisticUtils.loadTableRowCounts(null, "sharding_db").isEmpty());
+    }
+    
+    private ShardingSphereData createShardingSphereData() {
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "sharding_db", "t_order", "ds_0", "t_order_0", new BigDecimal("1000"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "sharding_db", "t_order", "ds_1", "t_order_1", new BigDecimal("2000"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(3, "sharding_db", "T_ORDER_ITEM", "ds_0", "t_order_item_0", "500", BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(4, "other_db", "t_user", "ds_0", "t_user", new BigDecimal("10"), BigDecimal.ZERO)));
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.putTable("sharding_table_statistics", tableData);
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.putSchema("shardingsphere", schemaData);
+        ShardingSphereData result = new ShardingSphereData();
+        result.putDatabase("shardingsphere", databaseData);
+        return result;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.timeservice.core.statistics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Time service calibration statistics.
+ */
+public final class TimeServiceCalibrationStatistics {
+    
+    private static final Map<String, TimeServiceCalibrationStatistics> STATISTICS = new ConcurrentHashMap<>();
+    
+    private final LongAdder calibrationCount = new LongAdder();
+    
+    private final LongAdder forcedCalibrationCount = new LongAdder();
+    
+    private final LongAdder failedCalibrationCount = new LongAdder();
+    
+    private volatile double skewMillis;
+    
+    private volatile double errorMillis;
+    
+    /**
+     * Record calibration.
+     *
+     * @param timeServiceType time service type
+     * @param skewMillis skew between estimated and sampled time in milliseconds
+     * @param errorMillis error bound of sampled time in milliseconds
+     * @param forced whether estimation is reset because skew exceeds tolerance
+     */
+    public static void recordCalibration(final String timeServiceType, final double skewMillis, final double errorMillis, final boolean forced) {
+        TimeServiceCalibrationStatistics statistics = STATISTICS.computeIfAbsent(timeServiceType, key -> new TimeServiceCalibrationStatistics());
+        statistics.skewMillis = skewMillis;
+        statistics.errorMillis = errorMillis;
+        statistics.calibrationCount.increment();
+        if (forced) {
+            statistics.forcedCalibrationCount.increment();
+        }
+    }
+    
+    /**
+     * Record failed calibration.
+     *
+     * @param timeServiceType time service type
+     */
+    public static void recordFailedCalibration(final String timeServiceType) {
+        STATISTICS.computeIfAbsent(timeServiceType, key -> new TimeServiceCalibrationStatistics()).failedCalibrationCount.increment();
+    }
+    
+    /**
+     * Get all statistics.
+     *
+     * @return time service type and statistics map
+     */
+    public static Map<String, TimeServiceCalibrationStatistics> getAll() {
+        return Collections.unmodifiableMap(STATISTICS);
+    }
+    
+    /**
+     * Get skew of last calibration.
+     *
+     * @return skew in milliseconds
+     */
+    public double getSkewMillis() {
+        return skewMillis;
+    }
+    
+    /**
+     * Get error bound of last calibration.
+     *
+     * @return error bound in milliseconds
+     */
+    public double getErrorMillis() {
+        return errorMillis;
+    }
+    
+    /**
+     * Get calibration count.
+     *
+     * @return calibration count
+     */
+    public long getCalibrationCount() {
+        return calibrationCount.sum();
+    }
+    
+    /**
+     * Get forced calibration count.
+     *
+     * @return forced calibration count
+     */
+    public long getForcedCalibrationCount() {
+        return forcedCalibrationCount.sum();
+    }
+    
+    /**
+     * Get failed calibration count.
+     *
+     * @return failed calibration count
+     */
+    public long getFailedCalibrationCount() {
+        return failedCalibrationCount.sum();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.timeservice.type.database;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.timeservice.core.statistics.TimeServiceCalibrationStatistics;
+import org.apache.shardingsphere.timeservice.spi.ShardingSphereTimeService;
+import org.apache.shardingsphere.timeservice.type.database.exception.DatetimeLoadingException;
+
+import java.util.Date;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Calibrated database time service.
+ *
+ * <p>
+ * Database time is sampled with sub-second precision once per calibration interval and estimated with {@code System.nanoTime} between samples, so reading time does not access database.
+ * The estimation is reset when the skew between estimated and sampled database time exceeds max skew.
+ * If sampling fails, the previous estimation is still used and sampling is retried with exponential backoff up to calibration interval.
+ * </p>
+ */
+@Slf4j
+public final class CalibratedDatabaseTimeService implements ShardingSphereTimeService {
+    
+    private static final String CALIBRATION_INTERVAL_MILLISECONDS_KEY = "calibration-interval-milliseconds";
+    
+    private static final String MAX_SKEW_MILLISECONDS_KEY = "max-skew-milliseconds";
+    
+    private static final long DEFAULT_CALIBRATION_INTERVAL_MILLISECONDS = 60000L;
+    
+    private static final long DEFAULT_MAX_SKEW_MILLISECONDS = 10L;
+    
+    private static final double NANOS_PER_MILLISECOND = 1000000D;
+    
+    private static final long INITIAL_RETRY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1L);
+    
+    private final DatabaseTimeService databaseTimeService = new DatabaseTimeService();
+    
+    private final AtomicBoolean calibrating = new AtomicBoolean();
+    
+    private long calibrationIntervalNanos;
+    
+    private long maxSkewMillis;
+    
+    private long precisionMillis;
+    
+    private volatile DatabaseClockCalibration calibration;
+    
+    private volatile long nextSampleNanos;
+    
+    private long retryBackoffNanos = INITIAL_RETRY_BACKOFF_NANOS;
+    
+    @Override
+    public void init(final Properties props) {
+        Properties dataSourceProps = new Properties();
+        dataSourceProps.putAll(props);
+        calibrationIntervalNanos = TimeUnit.MILLISECONDS.toNanos(removeLongProperty(dataSourceProps, CALIBRATION_INTERVAL_MILLISECONDS_KEY, DEFAULT_CALIBRATION_INTERVAL_MILLISECONDS));
+        maxSkewMillis = removeLongProperty(dataSourceProps, MAX_SKEW_MILLISECONDS_KEY, DEFAULT_MAX_SKEW_MILLISECONDS);
+        databaseTimeService.init(dataSourceProps);
+        precisionMillis = databaseTimeService.getPreciseDatetimePrecisionMillis();
+        calibration = sample(null);
+        nextSampleNanos = calibration.getSampleNanos() + calibrationIntervalNanos;
+    }
+    
+    private long removeLongProperty(final Properties props, final String key, final long defaultValue) {
+        Object result = props.remove(key);
+        return null == result ? defaultValue : Long.parseLong(result.toString());
+    }
+    
+    @Override
+    public Date getDatetime() {
+        if (System.nanoTime() - nextSampleNanos >= 0L && calibrating.compareAndSet(false, true)) {
+            try {
+                calibrate();
+            } finally {
+                calibrating.set(false);
+            }
+        }
+        return new Date(calibration.estimate(System.nanoTime()));
+    }
+    
+    private void calibrate() {
+        try {
+            calibration = sample(calibration);
+            nextSampleNanos = calibration.getSampleNanos() + calibrationIntervalNanos;
+            retryBackoffNanos = INITIAL_RETRY_BACKOFF_NANOS;
+        } catch (final DatetimeLoadingException ex) {
+            TimeServiceCalibrationStatistics.recordFailedCalibration(getType());
+            log.warn("Sample database time failed, retry after {} milliseconds.", TimeUnit.NANOSECONDS.toMillis(retryBackoffNanos), ex);
+            nextSampleNanos = System.nanoTime() + retryBackoffNanos;
+            retryBackoffNanos = Math.min(retryBackoffNanos * 2L, Math.max(calibrationIntervalNanos, INITIAL_RETRY_BACKOFF_NANOS));
+        }
+    }
+    
+    private DatabaseClockCalibration sample(final DatabaseClockCalibration previous) {
+        long startNanos = System.nanoTime();
+        long databaseMillis = databaseTimeService.getPreciseDatetime().getTime();
+        long endNanos = System.nanoTime();
+        long sampleNanos = startNanos + (endNanos - startNanos) / 2L;
+        double errorMillis = (endNanos - startNanos) / 2D / NANOS_PER_MILLISECOND;
+        double errorBoundMillis = errorMillis + precisionMillis / 2D;
+        if (null == previous) {
+            TimeServiceCalibrationStatistics.recordCalibration(getType(), 0D, errorBoundMillis, false);
+            return DatabaseClockCalibration.create(sampleNanos, databaseMillis, errorMillis, precisionMillis);
+        }
+        double skewMillis = previous.getSkewMillis(sampleNanos, databaseMillis);
+        boolean forced = previous.isSkewed(sampleNanos, databaseMillis, maxSkewMillis);
+        TimeServiceCalibrationStatistics.recordCalibration(getType(), skewMillis, errorBoundMillis, forced);
+        return forced ? DatabaseClockCalibration.create(sampleNanos, databaseMillis, errorMillis, precisionMillis) : previous.calibrate(sampleNanos, databaseMillis, errorMillis);
+    }
+    
+    @Override
+    public String getType() {
+        return "CalibratedDatabase";
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.timeservice.type.database;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Database clock calibration.
+ *
+ * <p>
+ * Database time is estimated by the database time sampled at a local {@code System.nanoTime} with the drift rate of database clock relative to local clock.
+ * Sampled database time is truncated to its precision, so the middle of the precision unit is taken as database time and half of the precision is added to error bound.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class DatabaseClockCalibration {
+    
+    private static final double NANOS_PER_MILLISECOND = 1000000D;
+    
+    private static final double MIN_DRIFT_ESTIMATION_MILLIS = 1000D;
+    
+    private final long sampleNanos;
+    
+    private final double databaseMillis;
+    
+    private final double driftRate;
+    
+    private final double errorMillis;
+    
+    private final long precisionMillis;
+    
+    /**
+     * Create database clock calibration without drift.
+     *
+     * @param sampleNanos local nano time when database time sampled
+     * @param databaseMillis sampled database time in milliseconds
+     * @param errorMillis error bound of sampled database time in milliseconds
+     * @param precisionMillis precision of sampled database time in milliseconds
+     * @return created database clock calibration
+     */
+    public static DatabaseClockCalibration create(final long sampleNanos, final long databaseMillis, final double errorMillis, final long precisionMillis) {
+        return new DatabaseClockCalibration(sampleNanos, databaseMillis + precisionMillis / 2D, 0D, errorMillis + precisionMillis / 2D, precisionMillis);
+    }
+    
+    /**
+     * Estimate database time.
+     *
+     * @param nanos local nano time
+     * @return estimated database time in milliseconds
+     */
+    public long estimate(final long nanos) {
+        return Math.round(estimateExactly(nanos));
+    }
+    
+    /**
+     * Get skew between sampled database time and estimated database time.
+     *
+     * @param sampleNanos local nano time when database time sampled
+     * @param databaseMillis sampled database time in milliseconds
+     * @return skew in milliseconds
+     */
+    public double getSkewMillis(final long sampleNanos, final long databaseMillis) {
+        return databaseMillis + precisionMillis / 2D - estimateExactly(sampleNanos);
+    }
+    
+    /**
+     * Judge whether skew between sampled database time and estimated database time exceeds max skew, precision of sampled database time is tolerated.
+     *
+     * @param sampleNanos local nano time when database time sampled
+     * @param databaseMillis sampled database time in milliseconds
+     * @param maxSkewMillis max skew in milliseconds
+     * @return skewed or not
+     */
+    public boolean isSkewed(final long sampleNanos, final long databaseMillis, final long maxSkewMillis) {
+        return Math.abs(getSkewMillis(sampleNanos, databaseMillis)) > maxSkewMillis + precisionMillis;
+    }
+    
+    /**
+     * Calibrate with new sampled database time.
+     *
+     * <p>
+     * Drift rate is re-estimated only when the samples are far enough apart, so the precision of database time does not dominate it.
+     * </p>
+     *
+     * @param sampleNanos local nano time when database time sampled
+     * @param databaseMillis sampled database time in milliseconds
+     * @param errorMillis error bound of sampled database time in milliseconds
+     * @return calibrated database clock calibration
+     */
+    public DatabaseClockCalibration calibrate(final long sampleNanos, final long databaseMillis, final double errorMillis) {
+        double elapsedMillis = (sampleNanos - this.sampleNanos) / NANOS_PER_MILLISECOND;
+        double correctedDatabaseMillis = databaseMillis + precisionMillis / 2D;
+        double newDriftRate = elapsedMillis >= MIN_DRIFT_ESTIMATION_MILLIS * Math.max(precisionMillis, 1L) ? (correctedDatabaseMillis - this.databaseMillis) / elapsedMillis - 1D : driftRate;
+        return new DatabaseClockCalibration(sampleNanos, correctedDatabaseMillis, newDriftRate, errorMillis + precisionMillis / 2D, precisionMillis);
+    }
+    
+    private double estimateExactly(final long nanos) {
+        return databaseMillis + (nanos - sampleNanos) / NANOS_PER_MILLISECOND * (1D + driftRate);
+    }
+}
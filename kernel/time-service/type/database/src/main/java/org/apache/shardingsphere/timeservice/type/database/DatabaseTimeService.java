@@ -56,19 +56,46 @@ public final class DatabaseTimeService implements ShardingSphereTimeService {
     @Override
     public Date getDatetime() {
         try {
-            return loadDatetime(dataSource, TypedSPILoader.getService(DatetimeLoadingSQLProvider.class, DatabaseTypeEngine.getTrunkDatabaseTypeName(storageType)).getDatetimeLoadingSQL());
+            return loadDatetime(dataSource, getDatetimeLoadingSQLProvider().getDatetimeLoadingSQL(), false);
         } catch (final SQLException ex) {
             throw new DatetimeLoadingException(ex);
         }
     }
     
-    private Date loadDatetime(final DataSource dataSource, final String datetimeLoadingSQL) throws SQLException {
+    /**
+     * Get datetime with sub-second precision.
+     *
+     * @return datetime
+     * @throws DatetimeLoadingException datetime loading exception
+     */
+    public Date getPreciseDatetime() {
+        try {
+            return loadDatetime(dataSource, getDatetimeLoadingSQLProvider().getPreciseDatetimeLoadingSQL(), true);
+        } catch (final SQLException ex) {
+            throw new DatetimeLoadingException(ex);
+        }
+    }
+    
+    /**
+     * Get precision of precise datetime.
+     *
+     * @return precision in milliseconds
+     */
+    public long getPreciseDatetimePrecisionMillis() {
+        return getDatetimeLoadingSQLProvider().getPreciseDatetimePrecisionMillis();
+    }
+    
+    private DatetimeLoadingSQLProvider getDatetimeLoadingSQLProvider() {
+        return TypedSPILoader.getService(DatetimeLoadingSQLProvider.class, DatabaseTypeEngine.getTrunkDatabaseTypeName(storageType));
+    }
+    
+    private Date loadDatetime(final DataSource dataSource, final String datetimeLoadingSQL, final boolean precise) throws SQLException {
         try (
                 Connection connection = dataSource.getConnection();
                 PreparedStatement preparedStatement = connection.prepareStatement(datetimeLoadingSQL)) {
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 resultSet.next();
-                return (Date) resultSet.getObject(1);
+                return precise ? resultSet.getTimestamp(1) : (Date) resultSet.getObject(1);
             }
         }
     }
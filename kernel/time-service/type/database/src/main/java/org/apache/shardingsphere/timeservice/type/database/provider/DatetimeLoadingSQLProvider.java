@@ -32,4 +32,22 @@ public interface DatetimeLoadingSQLProvider extends TypedSPI {
      * @return SQL for datetime loading
      */
     String getDatetimeLoadingSQL();
+    
+    /**
+     * Get SQL for datetime loading with sub-second precision.
+     *
+     * @return SQL for precise datetime loading
+     */
+    default String getPreciseDatetimeLoadingSQL() {
+        return getDatetimeLoadingSQL();
+    }
+    
+    /**
+     * Get precision of datetime loaded by precise datetime loading SQL.
+     *
+     * @return precision in milliseconds
+     */
+    default long getPreciseDatetimePrecisionMillis() {
+        return 1000L;
+    }
 }
@@ -29,6 +29,16 @@ public final class MySQLDatetimeLoadingSQLProvider implements DatetimeLoadingSQL
         return "SELECT NOW()";
     }
     
+    @Override
+    public String getPreciseDatetimeLoadingSQL() {
+        return "SELECT NOW(6)";
+    }
+    
+    @Override
+    public long getPreciseDatetimePrecisionMillis() {
+        return 1L;
+    }
+    
     @Override
     public String getType() {
         return "MySQL";
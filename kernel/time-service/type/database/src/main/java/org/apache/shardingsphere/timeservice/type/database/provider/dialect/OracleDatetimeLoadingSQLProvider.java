@@ -29,6 +29,16 @@ public final class OracleDatetimeLoadingSQLProvider implements DatetimeLoadingSQ
         return "SELECT sysdate FROM DUAL";
     }
     
+    @Override
+    public String getPreciseDatetimeLoadingSQL() {
+        return "SELECT SYSTIMESTAMP FROM DUAL";
+    }
+    
+    @Override
+    public long getPreciseDatetimePrecisionMillis() {
+        return 1L;
+    }
+    
     @Override
     public String getType() {
         return "Oracle";
@@ -29,6 +29,16 @@ public final class PostgreSQLDatetimeLoadingSQLProvider implements DatetimeLoadi
         return "SELECT NOW()";
     }
     
+    @Override
+    public String getPreciseDatetimeLoadingSQL() {
+        return "SELECT CLOCK_TIMESTAMP()";
+    }
+    
+    @Override
+    public long getPreciseDatetimePrecisionMillis() {
+        return 1L;
+    }
+    
     @Override
     public String getType() {
         return "PostgreSQL";
@@ -29,6 +29,16 @@ public final class SQLServerDatetimeLoadingSQLProvider implements DatetimeLoadin
         return "SELECT GETDATE()";
     }
     
+    @Override
+    public String getPreciseDatetimeLoadingSQL() {
+        return "SELECT SYSDATETIME()";
+    }
+    
+    @Override
+    public long getPreciseDatetimePrecisionMillis() {
+        return 1L;
+    }
+    
     @Override
     public String getType() {
         return "SQLServer";
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.timeservice.type.database;
+
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.apache.shardingsphere.timeservice.core.statistics.TimeServiceCalibrationStatistics;
+import org.apache.shardingsphere.timeservice.spi.ShardingSphereTimeService;
+import org.apache.shardingsphere.timeservice.type.database.exception.DatetimeLoadingException;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.sql.SQLException;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CalibratedDatabaseTimeServiceTest {
+    
+    @Test
+    void assertGetDatetime() {
+        long startTime = System.currentTimeMillis();
+        ShardingSphereTimeService timeService = TypedSPILoader.getService(ShardingSphereTimeService.class, "CalibratedDatabase", createProperties("foo_db"));
+        long actual = timeService.getDatetime().getTime();
+        long endTime = System.currentTimeMillis();
+        assertTrue(actual >= startTime - 1000L && actual <= endTime + 1000L);
+        assertTrue(TimeServiceCalibrationStatistics.getAll().get("CalibratedDatabase").getCalibrationCount() >= 2L);
+    }
+    
+    @Test
+    void assertGetDatetimeWhenSampleFailed() throws ReflectiveOperationException {
+        final long startTime = System.currentTimeMillis();
+        ShardingSphereTimeService timeService = TypedSPILoader.getService(ShardingSphereTimeService.class, "CalibratedDatabase", createProperties("bar_db"));
+        final long failedCalibrationCount = TimeServiceCalibrationStatistics.getAll().get("CalibratedDatabase").getFailedCalibrationCount();
+        DatabaseTimeService databaseTimeService = mock(DatabaseTimeService.class);
+        when(databaseTimeService.getPreciseDatetime()).thenThrow(new DatetimeLoadingException(new SQLException("Database is down")));
+        Plugins.getMemberAccessor().set(CalibratedDatabaseTimeService.class.getDeclaredField("databaseTimeService"), timeService, databaseTimeService);
+        long actual = timeService.getDatetime().getTime();
+        timeService.getDatetime();
+        long endTime = System.currentTimeMillis();
+        assertTrue(actual >= startTime - 1000L && actual <= endTime + 1000L);
+        verify(databaseTimeService).getPreciseDatetime();
+        assertThat(TimeServiceCalibrationStatistics.getAll().get("CalibratedDatabase").getFailedCalibrationCount(), is(failedCalibrationCount + 1L));
+    }
+    
+    private Properties createProperties(final String databaseName) {
+        return PropertiesBuilder.build(
+                new Property("dataSourceClassName", "com.zaxxer.hikari.HikariDataSource"),
+                new Property("jdbcUrl", "jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL"),
+                new Property("username", "sa"),
+                new Property("password", ""),
+                new Property("maximumPoolSize", "1"),
+                new Property("calibration-interval-milliseconds", "0"),
+                new Property("max-skew-milliseconds", "1000"));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.timeservice.type.database;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DatabaseClockCalibrationTest {
+    
+    @Test
+    void assertEstimate() {
+        assertThat(DatabaseClockCalibration.create(0L, 1000L, 0D, 0L).estimate(5000000L), is(1005L));
+    }
+    
+    @Test
+    void assertGetSkewMillis() {
+        assertThat(DatabaseClockCalibration.create(0L, 1000L, 0D, 0L).getSkewMillis(5000000L, 1008L), is(3D));
+    }
+    
+    @Test
+    void assertCalibrateWithDrift() {
+        DatabaseClockCalibration actual = DatabaseClockCalibration.create(0L, 1000L, 0D, 0L).calibrate(2000000000L, 3002L, 0D);
+        assertThat(actual.getDriftRate(), closeTo(0.001D, 1E-9D));
+        assertThat(actual.estimate(3000000000L), is(4003L));
+    }
+    
+    @Test
+    void assertCalibrateWithoutDriftWhenSamplesTooClose() {
+        DatabaseClockCalibration actual = DatabaseClockCalibration.create(0L, 1000L, 0D, 0L).calibrate(10000000L, 1012L, 0D);
+        assertThat(actual.getDriftRate(), is(0D));
+        assertThat(actual.estimate(20000000L), is(1022L));
+    }
+    
+    @Test
+    void assertCalibrateWithSecondTruncatedSamples() {
+        long databaseOffsetMillis = 1234567L;
+        DatabaseClockCalibration actual = DatabaseClockCalibration.create(0L, truncateToSecond(databaseOffsetMillis), 0D, 1000L);
+        for (long i = 1L; i <= 100L; i++) {
+            long sampleNanos = i * 60000000000L + i * 7000000L;
+            long databaseMillis = databaseOffsetMillis + sampleNanos / 1000000L;
+            assertFalse(actual.isSkewed(sampleNanos, truncateToSecond(databaseMillis), 10L));
+            actual = actual.calibrate(sampleNanos, truncateToSecond(databaseMillis), 0D);
+            assertThat(actual.getDriftRate(), is(0D));
+            assertThat((double) actual.estimate(sampleNanos + 1000000L), closeTo(databaseMillis + 1L, 500D));
+        }
+    }
+    
+    @Test
+    void assertIsSkewed() {
+        DatabaseClockCalibration calibration = DatabaseClockCalibration.create(0L, 1000L, 0D, 1L);
+        assertFalse(calibration.isSkewed(5000000L, 1015L, 10L));
+        assertTrue(calibration.isSkewed(5000000L, 1017L, 10L));
+    }
+    
+    private long truncateToSecond(final long millis) {
+        return millis / 1000L * 1000L;
+    }
+}
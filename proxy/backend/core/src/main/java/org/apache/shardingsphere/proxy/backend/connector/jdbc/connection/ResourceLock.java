@@ -23,6 +23,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 
 /**
  * Resource lock.
@@ -48,6 +49,27 @@ public final class ResourceLock {
         }
     }
     
+    /**
+     * Await until wake up condition is satisfied.
+     *
+     * <p>
+     * The wake up condition is checked while holding the lock, so the notification sent after the condition changed will not be missed.
+     * </p>
+     *
+     * @param wakeUpCondition wake up condition
+     */
+    @SneakyThrows(InterruptedException.class)
+    public void doAwait(final BooleanSupplier wakeUpCondition) {
+        lock.lock();
+        try {
+            while (!wakeUpCondition.getAsBoolean()) {
+                condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
     /**
      * Notify.
      */
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.proxy.backend.connector.jdbc.executor;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -29,9 +31,11 @@ import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.proxy.backend.connector.DatabaseConnector;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -71,11 +75,14 @@ public final class ProxyJDBCExecutor {
             Map<String, DatabaseType> storageTypes = database.getResourceMetaData().getStorageTypes();
             executeProcessEngine.initializeExecution(executionGroupContext, queryContext);
             SQLStatementContext<?> context = queryContext.getSqlStatementContext();
-            return jdbcExecutor.execute(executionGroupContext,
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, storageTypes, context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys, isExceptionThrown,
-                            true),
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, storageTypes, context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys, isExceptionThrown,
-                            false));
+            ProxyJDBCExecutorCallback firstCallback =
+                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, storageTypes, context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys, isExceptionThrown, true);
+            ProxyJDBCExecutorCallback callback =
+                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, storageTypes, context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys, isExceptionThrown, false);
+            ConfigurationProperties props = metaDataContexts.getMetaData().getProps();
+            return context.getSqlStatement() instanceof SelectStatement && props.<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_COMPLETION_ORDERED_ENABLED)
+                    ? jdbcExecutor.executeInCompletionOrder(executionGroupContext, firstCallback, callback, props.<Long>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_QUERY_TIMEOUT_MILLISECONDS))
+                    : jdbcExecutor.execute(executionGroupContext, firstCallback, callback);
         } finally {
             executeProcessEngine.cleanExecution();
         }
@@ -28,11 +28,17 @@ import org.apache.shardingsphere.distsql.parser.statement.rql.RQLStatement;
 import org.apache.shardingsphere.distsql.parser.statement.rul.RULStatement;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.audit.SQLAuditEngine;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.parser.sql.ParameterizedSQLStatement;
+import org.apache.shardingsphere.infra.parser.sql.ParameterizedSQLStatementCacheStatistics;
 import org.apache.shardingsphere.infra.state.cluster.ClusterState;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
@@ -84,6 +90,10 @@ public final class ProxyBackendHandlerFactory {
         if (Strings.isNullOrEmpty(SQLUtils.trimComment(sql))) {
             return new SkipBackendHandler(new EmptyStatement());
         }
+        Optional<ProxyBackendHandler> parameterizedBackendHandler = newParameterizedInstance(databaseType, sql, connectionSession, new HintValueContext());
+        if (parameterizedBackendHandler.isPresent()) {
+            return parameterizedBackendHandler.get();
+        }
         SQLParserRule sqlParserRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
         SQLStatement sqlStatement = sqlParserRule.getSQLParserEngine(getProtocolType(databaseType, connectionSession).getType()).parse(sql, false);
         return newInstance(databaseType, sql, sqlStatement, connectionSession, new HintValueContext());
@@ -166,6 +176,56 @@ public final class ProxyBackendHandlerFactory {
         return backendHandler.orElseGet(() -> DatabaseBackendHandlerFactory.newInstance(queryContext, connectionSession, preferPreparedStatement));
     }
     
+    /**
+     * Create new instance of backend handler with SQL which literals are replaced by parameter markers.
+     * 
+     * <p>
+     * Only available if {@link ConfigurationPropertyKey#PROXY_SQL_LITERAL_PARAMETERIZED_ENABLED} is enabled, the frontend is MySQL protocol and the SQL is DML on tables of current database.
+     * Literals of PostgreSQL protocol are not parameterized, since they are untyped on server side and binding them as string parameters changes comparison semantics.
+     * </p>
+     *
+     * @param databaseType database type
+     * @param sql SQL to be executed
+     * @param connectionSession connection session
+     * @param hintValueContext hint query context
+     * @return created instance, empty if SQL can not be parameterized
+     * @throws SQLException SQL exception
+     */
+    public static Optional<ProxyBackendHandler> newParameterizedInstance(final DatabaseType databaseType, final String sql,
+                                                                         final ConnectionSession connectionSession, final HintValueContext hintValueContext) throws SQLException {
+        String databaseName = connectionSession.getDatabaseName();
+        if (!(databaseType instanceof MySQLDatabaseType) || Strings.isNullOrEmpty(databaseName)) {
+            return Optional.empty();
+        }
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        if (!metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_SQL_LITERAL_PARAMETERIZED_ENABLED) || !ProxyContext.getInstance().databaseExists(databaseName)) {
+            return Optional.empty();
+        }
+        SQLParserRule sqlParserRule = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        Optional<ParameterizedSQLStatement> parameterizedSQLStatement = sqlParserRule.getSQLParserEngine(getProtocolType(databaseType, connectionSession).getType()).parseParameterized(sql);
+        if (!parameterizedSQLStatement.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<ProxyBackendHandler> result = createParameterizedBackendHandler(databaseType, parameterizedSQLStatement.get(), connectionSession, hintValueContext);
+        if (result.isPresent()) {
+            ParameterizedSQLStatementCacheStatistics.record(databaseName, parameterizedSQLStatement.get().isCacheHit());
+        }
+        return result;
+    }
+    
+    private static Optional<ProxyBackendHandler> createParameterizedBackendHandler(final DatabaseType databaseType, final ParameterizedSQLStatement parameterizedSQLStatement,
+                                                                                   final ConnectionSession connectionSession, final HintValueContext hintValueContext) throws SQLException {
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(),
+                parameterizedSQLStatement.getParameters(), parameterizedSQLStatement.getSqlStatement(), connectionSession.getDefaultDatabaseName());
+        TablesContext tablesContext = sqlStatementContext.getTablesContext();
+        if (tablesContext.getTableNames().isEmpty() || tablesContext.getDatabaseName().isPresent() || tablesContext.getSchemaName().isPresent()) {
+            return Optional.empty();
+        }
+        QueryContext queryContext = new QueryContext(sqlStatementContext, parameterizedSQLStatement.getSql(), parameterizedSQLStatement.getParameters(), hintValueContext);
+        connectionSession.setQueryContext(queryContext);
+        return Optional.of(newInstance(databaseType, queryContext, connectionSession, false));
+    }
+    
     private static void checkUnsupportedDistSQLStatementInTransaction(final SQLStatement sqlStatement, final ConnectionSession connectionSession) {
         ShardingSpherePreconditions.checkState(!connectionSession.getTransactionStatus().isInTransaction() || isSupportedDistSQLStatementInTransaction(sqlStatement),
                 () -> new UnsupportedSQLOperationException("Non-query DistSQL is not supported within a transaction"));
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -49,4 +50,22 @@ class ResourceLockTest {
         resourceLock.doAwait();
         assertTrue(System.currentTimeMillis() > startTime);
     }
+    
+    @Test
+    void assertDoAwaitWithWakeUpCondition() {
+        ResourceLock resourceLock = new ResourceLock();
+        AtomicBoolean writable = new AtomicBoolean();
+        ExecutorService executorService = Executors.newFixedThreadPool(1);
+        executorService.submit(() -> {
+            try {
+                Thread.sleep(50L);
+            } catch (final InterruptedException ignored) {
+            }
+            writable.set(true);
+            resourceLock.doNotify();
+        });
+        resourceLock.doAwait(writable::get);
+        assertTrue(writable.get());
+        executorService.shutdown();
+    }
 }
@@ -20,10 +20,13 @@ package org.apache.shardingsphere.proxy.backend.handler;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
 import org.apache.shardingsphere.authority.rule.builder.DefaultAuthorityRuleConfigurationBuilder;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.parser.sql.ParameterizedSQLStatementCacheStatistics;
 import org.apache.shardingsphere.infra.state.cluster.ClusterState;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
@@ -45,6 +48,8 @@ import org.apache.shardingsphere.proxy.backend.handler.transaction.TransactionBa
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.shardingsphere.test.mock.StaticMockSettings;
 import org.apache.shardingsphere.transaction.api.TransactionType;
 import org.apache.shardingsphere.transaction.rule.TransactionRule;
@@ -65,7 +70,9 @@ import java.util.HashSet;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -202,6 +209,33 @@ class ProxyBackendHandlerFactoryTest {
         assertThat(actual, instanceOf(DatabaseAdminQueryBackendHandler.class));
     }
     
+    @Test
+    void assertNewParameterizedInstanceWhenDisabled() throws SQLException {
+        String sql = "SELECT * FROM t_order WHERE order_id = 1";
+        assertFalse(ProxyBackendHandlerFactory.newParameterizedInstance(databaseType, sql, connectionSession, new HintValueContext()).isPresent());
+    }
+    
+    @Test
+    void assertNewParameterizedInstanceWithSchemaQualifiedTable() throws SQLException {
+        Properties props = PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_SQL_LITERAL_PARAMETERIZED_ENABLED.getKey(), Boolean.TRUE.toString()));
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(props));
+        when(ProxyContext.getInstance().databaseExists("db")).thenReturn(true);
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabase("db").getProtocolType()).thenReturn(databaseType);
+        String sql = "SELECT * FROM information_schema.schemata WHERE schema_name = 'db'";
+        long missCount = getParameterizedSQLStatementCacheMissCount();
+        assertFalse(ProxyBackendHandlerFactory.newParameterizedInstance(databaseType, sql, connectionSession, new HintValueContext()).isPresent());
+        assertThat(getParameterizedSQLStatementCacheMissCount(), is(missCount));
+    }
+    
+    @Test
+    void assertNewParameterizedInstanceWithPostgreSQLProtocol() throws SQLException {
+        Properties props = PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_SQL_LITERAL_PARAMETERIZED_ENABLED.getKey(), Boolean.TRUE.toString()));
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(props));
+        when(ProxyContext.getInstance().databaseExists("db")).thenReturn(true);
+        String sql = "SELECT * FROM t_order WHERE order_id = 1";
+        assertFalse(ProxyBackendHandlerFactory.newParameterizedInstance(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"), sql, connectionSession, new HintValueContext()).isPresent());
+    }
+    
     @Test
     void assertNewInstanceWithEmptyString() throws SQLException {
         String sql = "";
@@ -251,4 +285,9 @@ class ProxyBackendHandlerFactoryTest {
         ProxyBackendHandler actual = ProxyBackendHandlerFactory.newInstance(databaseType, sql, connectionSession);
         assertThat(actual, instanceOf(SQLRULBackendHandler.class));
     }
+    
+    private long getParameterizedSQLStatementCacheMissCount() {
+        ParameterizedSQLStatementCacheStatistics statistics = ParameterizedSQLStatementCacheStatistics.getAll().get("db");
+        return null == statistics ? 0L : statistics.getMissCount();
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Query data writer.
+ *
+ * <p>
+ * Query data packets are written without flushing until the row count or pending bytes reaches the threshold,
+ * so wide result sets are flushed in large batches. Pending bytes are measured by the write buffer high water mark of the frontend connection and the bytes before unwritable,
+ * the water mark is configured as child option of the proxy server, so the bytes threshold is capped by the high water mark.
+ * A flush is scheduled on the event loop of the channel after the flush interval, so slowly produced rows are not held back for long.
+ * If the channel is not writable, pending data is flushed and the writer waits for the channel writability changed event.
+ * </p>
+ */
+public final class QueryDataWriter {
+    
+    private final ChannelHandlerContext context;
+    
+    private final ResourceLock resourceLock;
+    
+    private final int flushRowsThreshold;
+    
+    private final int flushBytesThreshold;
+    
+    private final long flushIntervalNanos;
+    
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    
+    private int unflushedRows;
+    
+    public QueryDataWriter(final ChannelHandlerContext context, final ResourceLock resourceLock, final ConfigurationProperties props) {
+        this.context = context;
+        this.resourceLock = resourceLock;
+        flushRowsThreshold = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        flushBytesThreshold = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD);
+        flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(props.<Long>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS));
+    }
+    
+    /**
+     * Write query data packet.
+     *
+     * @param packet query data packet
+     */
+    public void write(final DatabasePacket<?> packet) {
+        awaitWritable();
+        context.write(packet);
+        unflushedRows++;
+        if (isFlushRequired()) {
+            flush();
+        } else {
+            scheduleFlush();
+        }
+    }
+    
+    private void awaitWritable() {
+        Channel channel = context.channel();
+        if (!channel.isWritable() && channel.isActive()) {
+            flush();
+            resourceLock.doAwait(() -> channel.isWritable() || !channel.isActive());
+        }
+    }
+    
+    private boolean isFlushRequired() {
+        if (unflushedRows >= flushRowsThreshold) {
+            return true;
+        }
+        Channel channel = context.channel();
+        int highWaterMark = channel.config().getWriteBufferHighWaterMark();
+        return highWaterMark - channel.bytesBeforeUnwritable() >= Math.min(flushBytesThreshold, highWaterMark);
+    }
+    
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            context.channel().eventLoop().schedule(this::flushScheduled, flushIntervalNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    private void flushScheduled() {
+        flushScheduled.set(false);
+        context.flush();
+    }
+    
+    private void flush() {
+        context.flush();
+        unflushedRows = 0;
+    }
+}
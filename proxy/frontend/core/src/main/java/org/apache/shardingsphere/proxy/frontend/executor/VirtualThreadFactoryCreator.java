@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread factory creator.
+ *
+ * <p>
+ * Virtual threads are available since JDK 21, they are looked up by method handles because ShardingSphere is compiled with JDK 8.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreadFactoryCreator {
+    
+    private static final MethodHandle OF_VIRTUAL = findOfVirtual();
+    
+    private static final MethodHandle NAME = findBuilderMethod("name", MethodType.methodType(getBuilderClass(), String.class));
+    
+    private static final MethodHandle FACTORY = findBuilderMethod("factory", MethodType.methodType(ThreadFactory.class));
+    
+    private static Class<?> getBuilderClass() {
+        try {
+            return Class.forName("java.lang.Thread$Builder");
+        } catch (final ClassNotFoundException ignored) {
+            return Object.class;
+        }
+    }
+    
+    private static MethodHandle findOfVirtual() {
+        try {
+            MethodHandle result = MethodHandles.publicLookup().findStatic(Thread.class, "ofVirtual", MethodType.methodType(Class.forName("java.lang.Thread$Builder$OfVirtual")));
+            result.invoke();
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final Throwable ignored) {
+            // CHECKSTYLE:ON
+            return null;
+        }
+    }
+    
+    private static MethodHandle findBuilderMethod(final String methodName, final MethodType methodType) {
+        if (null == OF_VIRTUAL) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().findVirtual(getBuilderClass(), methodName, methodType);
+        } catch (final ReflectiveOperationException ignored) {
+            return null;
+        }
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current JVM.
+     *
+     * @return is supported or not
+     */
+    public static boolean isSupported() {
+        return null != OF_VIRTUAL && null != NAME && null != FACTORY;
+    }
+    
+    /**
+     * Create virtual thread factory.
+     *
+     * @param threadName name of created virtual threads
+     * @return virtual thread factory
+     * @throws UnsupportedOperationException if virtual thread is unsupported by current JVM
+     */
+    public static ThreadFactory create(final String threadName) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual thread is unsupported by current JVM.");
+        }
+        try {
+            return (ThreadFactory) FACTORY.invoke(NAME.invoke(OF_VIRTUAL.invoke(), threadName));
+            // CHECKSTYLE:OFF
+        } catch (final Throwable ex) {
+            // CHECKSTYLE:ON
+            throw new UnsupportedOperationException(ex);
+        }
+    }
+}
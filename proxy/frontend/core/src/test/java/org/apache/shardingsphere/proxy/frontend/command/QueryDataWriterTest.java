@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QueryDataWriterTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private ResourceLock resourceLock;
+    
+    @Test
+    void assertFlushWithRowsThreshold() {
+        mockEmptyWriteBuffer();
+        QueryDataWriter queryDataWriter = new QueryDataWriter(context, resourceLock, createProperties("2", "65536", "60000"));
+        for (int i = 0; i < 5; i++) {
+            queryDataWriter.write(mock(DatabasePacket.class));
+        }
+        verify(context, times(5)).write(any(DatabasePacket.class));
+        verify(context, times(2)).flush();
+    }
+    
+    @Test
+    void assertFlushWithBytesThreshold() {
+        when(context.channel().config().getWriteBufferHighWaterMark()).thenReturn(1000);
+        when(context.channel().bytesBeforeUnwritable()).thenReturn(990L, 900L);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(context, resourceLock, createProperties("128", "64", "60000"));
+        queryDataWriter.write(mock(DatabasePacket.class));
+        verify(context, never()).flush();
+        queryDataWriter.write(mock(DatabasePacket.class));
+        verify(context).flush();
+    }
+    
+    @Test
+    void assertFlushWithBytesThresholdAboveHighWaterMark() {
+        when(context.channel().config().getWriteBufferHighWaterMark()).thenReturn(1000);
+        when(context.channel().bytesBeforeUnwritable()).thenReturn(10L, 0L);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(context, resourceLock, createProperties("128", "65536", "60000"));
+        queryDataWriter.write(mock(DatabasePacket.class));
+        verify(context, never()).flush();
+        queryDataWriter.write(mock(DatabasePacket.class));
+        verify(context).flush();
+    }
+    
+    @Test
+    void assertFlushWithInterval() {
+        mockEmptyWriteBuffer();
+        QueryDataWriter queryDataWriter = new QueryDataWriter(context, resourceLock, createProperties("128", "65536", "10"));
+        queryDataWriter.write(mock(DatabasePacket.class));
+        queryDataWriter.write(mock(DatabasePacket.class));
+        ArgumentCaptor<Runnable> flushTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(context.channel().eventLoop()).schedule(flushTask.capture(), eq(TimeUnit.MILLISECONDS.toNanos(10L)), eq(TimeUnit.NANOSECONDS));
+        verify(context, never()).flush();
+        flushTask.getValue().run();
+        verify(context).flush();
+        queryDataWriter.write(mock(DatabasePacket.class));
+        verify(context.channel().eventLoop(), times(2)).schedule(any(Runnable.class), eq(TimeUnit.MILLISECONDS.toNanos(10L)), eq(TimeUnit.NANOSECONDS));
+    }
+    
+    @Test
+    void assertWriteWhenChannelNotWritable() {
+        mockEmptyWriteBuffer();
+        when(context.channel().isWritable()).thenReturn(false);
+        when(context.channel().isActive()).thenReturn(true);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(context, resourceLock, createProperties("128", "65536", "60000"));
+        queryDataWriter.write(mock(DatabasePacket.class));
+        verify(context).flush();
+        verify(resourceLock).doAwait(any());
+        verify(context).write(any(DatabasePacket.class));
+    }
+    
+    private void mockEmptyWriteBuffer() {
+        when(context.channel().config().getWriteBufferHighWaterMark()).thenReturn(1000);
+        when(context.channel().bytesBeforeUnwritable()).thenReturn(1000L);
+    }
+    
+    private ConfigurationProperties createProperties(final String rowsThreshold, final String bytesThreshold, final String intervalMilliseconds) {
+        return new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), rowsThreshold),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), bytesThreshold),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS.getKey(), intervalMilliseconds)));
+    }
+}
@@ -17,10 +17,21 @@
 
 package org.apache.shardingsphere.proxy.frontend.executor;
 
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.JRE;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ConnectionThreadExecutorGroupTest {
     
@@ -32,6 +43,26 @@ class ConnectionThreadExecutorGroupTest {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
     }
     
+    @Test
+    void assertRegisterWithVirtualThreadEnabled() throws ExecutionException, InterruptedException {
+        int connectionId = 3;
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, true);
+        ExecutorService executorService = ConnectionThreadExecutorGroup.getInstance().get(connectionId);
+        Thread firstThread = executorService.submit(Thread::currentThread).get();
+        assertThat(executorService.submit(Thread::currentThread).get(), is(firstThread));
+        assertThat(firstThread.getName(), is("Connection-3-ThreadExecutor"));
+        if (JRE.currentVersion().compareTo(JRE.JAVA_21) >= 0) {
+            assertTrue(isVirtual(firstThread));
+        }
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+    }
+    
+    @SneakyThrows(Throwable.class)
+    private boolean isVirtual(final Thread thread) {
+        MethodHandle isVirtual = MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        return (boolean) isVirtual.invoke(thread);
+    }
+    
     @Test
     void assertUnregister() {
         int connectionId = 2;
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.util.concurrent.ThreadFactory;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VirtualThreadFactoryCreatorTest {
+    
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void assertCreateWhenUnsupported() {
+        assertFalse(VirtualThreadFactoryCreator.isSupported());
+        assertThrows(UnsupportedOperationException.class, () -> VirtualThreadFactoryCreator.create("foo_thread"));
+    }
+    
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void assertCreateWhenSupported() {
+        ThreadFactory threadFactory = VirtualThreadFactoryCreator.create("foo_thread");
+        Thread actual = threadFactory.newThread(() -> {
+        });
+        assertThat(actual.getName(), is("foo_thread"));
+    }
+}
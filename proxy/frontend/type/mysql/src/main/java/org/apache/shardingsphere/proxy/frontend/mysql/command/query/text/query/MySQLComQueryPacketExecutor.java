@@ -47,6 +47,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtils;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * COM_QUERY command packet executor for MySQL.
@@ -65,10 +66,18 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     public MySQLComQueryPacketExecutor(final MySQLComQueryPacket packet, final ConnectionSession connectionSession) throws SQLException {
         this.connectionSession = connectionSession;
         DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+        proxyBackendHandler = createProxyBackendHandler(packet, connectionSession, databaseType);
+        characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
+    }
+    
+    private ProxyBackendHandler createProxyBackendHandler(final MySQLComQueryPacket packet, final ConnectionSession connectionSession, final DatabaseType databaseType) throws SQLException {
+        Optional<ProxyBackendHandler> parameterizedBackendHandler = ProxyBackendHandlerFactory.newParameterizedInstance(databaseType, packet.getSql(), connectionSession, packet.getHintValueContext());
+        if (parameterizedBackendHandler.isPresent()) {
+            return parameterizedBackendHandler.get();
+        }
         SQLStatement sqlStatement = parseSql(packet.getSql(), databaseType);
-        proxyBackendHandler = areMultiStatements(connectionSession, sqlStatement, packet.getSql()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSql())
+        return areMultiStatements(connectionSession, sqlStatement, packet.getSql()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSql())
                 : ProxyBackendHandlerFactory.newInstance(databaseType, packet.getSql(), sqlStatement, connectionSession, packet.getHintValueContext());
-        characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
     }
     
     private SQLStatement parseSql(final String sql, final DatabaseType databaseType) {
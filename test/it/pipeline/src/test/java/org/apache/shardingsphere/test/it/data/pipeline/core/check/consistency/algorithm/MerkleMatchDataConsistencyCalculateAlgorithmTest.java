@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.it.data.pipeline.core.check.consistency.algorithm;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.SharedUniqueKeyRanges;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.UniqueKeyRangeDataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm.MerkleMatchDataConsistencyCalculateAlgorithm;
+import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MerkleMatchDataConsistencyCalculateAlgorithmTest {
+    
+    private static PipelineDataSourceWrapper source;
+    
+    private static PipelineDataSourceWrapper target;
+    
+    @BeforeAll
+    static void setUp() throws Exception {
+        source = new PipelineDataSourceWrapper(createHikariDataSource("merkle_source_ds"), new H2DatabaseType());
+        createTableAndInitData(source, "t_order_copy");
+        target = new PipelineDataSourceWrapper(createHikariDataSource("merkle_target_ds"), new H2DatabaseType());
+        createTableAndInitData(target, "t_order");
+        try (Connection connection = target.getConnection()) {
+            connection.createStatement().execute("UPDATE t_order SET status='drift' WHERE order_id=8");
+            connection.createStatement().execute("INSERT INTO t_order (order_id, user_id, status) VALUES (100, 100, 'test')");
+        }
+    }
+    
+    @AfterAll
+    static void tearDown() throws Exception {
+        source.close();
+        target.close();
+    }
+    
+    private static HikariDataSource createHikariDataSource(final String databaseName) {
+        HikariDataSource result = new HikariDataSource();
+        result.setJdbcUrl(String.format("jdbc:h2:mem:%s;DATABASE_TO_UPPER=false;MODE=MySQL", databaseName));
+        result.setUsername("root");
+        result.setPassword("root");
+        result.setMaximumPoolSize(10);
+        result.setMinimumIdle(2);
+        return result;
+    }
+    
+    private static void createTableAndInitData(final PipelineDataSourceWrapper dataSource, final String tableName) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String sql = String.format("CREATE TABLE %s (order_id INT NOT NULL, user_id INT NOT NULL, status VARCHAR(45) NULL, PRIMARY KEY (order_id))", tableName);
+            connection.createStatement().execute(sql);
+            PreparedStatement preparedStatement = connection.prepareStatement(String.format("INSERT INTO %s (order_id, user_id, status) VALUES (?, ?, ?)", tableName));
+            for (int i = 0; i < 10; i++) {
+                preparedStatement.setInt(1, i + 1);
+                preparedStatement.setInt(2, i + 1);
+                preparedStatement.setString(3, "test");
+                preparedStatement.execute();
+            }
+        }
+    }
+    
+    @Test
+    void assertCalculateChunks() {
+        MerkleMatchDataConsistencyCalculateAlgorithm calculateAlgorithm = new MerkleMatchDataConsistencyCalculateAlgorithm();
+        calculateAlgorithm.init(PropertiesBuilder.build(new Property("chunk-size", "5")));
+        DataConsistencyCalculateParameter sourceParam = generateParameter(source, "t_order_copy");
+        DataConsistencyCalculateParameter targetParam = generateParameter(target, "t_order");
+        SharedUniqueKeyRanges sharedUniqueKeyRanges = new SharedUniqueKeyRanges();
+        sourceParam.setSharedUniqueKeyRanges(sharedUniqueKeyRanges);
+        sourceParam.setUniqueKeyRangesSplitter(true);
+        targetParam.setSharedUniqueKeyRanges(sharedUniqueKeyRanges);
+        Optional<DataConsistencyCalculatedResult> sourceCalculateResult = calculateAlgorithm.calculateChunk(sourceParam);
+        Optional<DataConsistencyCalculatedResult> targetCalculateResult = calculateAlgorithm.calculateChunk(targetParam);
+        assertTrue(sourceCalculateResult.isPresent());
+        assertTrue(targetCalculateResult.isPresent());
+        assertThat(targetCalculateResult.get().getRecordsCount(), is(5));
+        assertThat(targetCalculateResult.get().getMaxUniqueKeyValue().orElse(null), is(5L));
+        assertThat(sourceCalculateResult.get(), is(targetCalculateResult.get()));
+        sourceCalculateResult = calculateAlgorithm.calculateChunk(sourceParam);
+        targetCalculateResult = calculateAlgorithm.calculateChunk(targetParam);
+        assertTrue(sourceCalculateResult.isPresent());
+        assertTrue(targetCalculateResult.isPresent());
+        assertThat(targetCalculateResult.get().getRecordsCount(), is(5));
+        assertThat(targetCalculateResult.get().getMaxUniqueKeyValue().orElse(null), is(10L));
+        assertNotEquals(sourceCalculateResult.get(), targetCalculateResult.get());
+        assertThat(findMismatchedRanges(sourceCalculateResult.get(), targetCalculateResult.get()), is(Collections.singletonList("[8, 8]")));
+        sourceCalculateResult = calculateAlgorithm.calculateChunk(sourceParam);
+        targetCalculateResult = calculateAlgorithm.calculateChunk(targetParam);
+        assertTrue(sourceCalculateResult.isPresent());
+        assertTrue(targetCalculateResult.isPresent());
+        assertThat(sourceCalculateResult.get().getRecordsCount(), is(0));
+        assertThat(targetCalculateResult.get().getRecordsCount(), is(1));
+        assertThat(targetCalculateResult.get().getMaxUniqueKeyValue().orElse(null), is(Long.MAX_VALUE));
+        assertThat(findMismatchedRanges(sourceCalculateResult.get(), targetCalculateResult.get()), is(Collections.singletonList("[100, 100]")));
+        assertFalse(calculateAlgorithm.calculateChunk(sourceParam).isPresent());
+        assertFalse(calculateAlgorithm.calculateChunk(targetParam).isPresent());
+    }
+    
+    private Collection<String> findMismatchedRanges(final DataConsistencyCalculatedResult calculatedResult, final DataConsistencyCalculatedResult peerCalculatedResult) {
+        return ((UniqueKeyRangeDataConsistencyCalculatedResult) calculatedResult).findMismatchedRanges((UniqueKeyRangeDataConsistencyCalculatedResult) peerCalculatedResult, 100);
+    }
+    
+    private DataConsistencyCalculateParameter generateParameter(final PipelineDataSourceWrapper dataSource, final String logicTableName) {
+        PipelineColumnMetaData uniqueKey = new PipelineColumnMetaData(1, "order_id", Types.INTEGER, "integer", false, true, true);
+        return new DataConsistencyCalculateParameter(dataSource, null, logicTableName, Arrays.asList("order_id", "user_id", "status"), "H2", "H2", uniqueKey, null);
+    }
+}
@@ -19,7 +19,9 @@ package org.apache.shardingsphere.test.it.data.pipeline.core.fixture;
 
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public final class H2PipelineSQLBuilder extends AbstractPipelineSQLBuilder {
     
@@ -43,6 +45,13 @@ public final class H2PipelineSQLBuilder extends AbstractPipelineSQLBuilder {
         return Optional.empty();
     }
     
+    @Override
+    public Optional<String> buildUniqueKeyRangeCRC32SQL(final String schemaName, final String tableName, final List<String> columnNames, final String uniqueKey) {
+        String nullFlags = columnNames.stream().map(each -> String.format("CASE WHEN %s IS NULL THEN 1 ELSE 0 END", each)).collect(Collectors.joining(","));
+        return Optional.of(String.format("SELECT BIT_XOR_AGG(ORA_HASH(CONCAT_WS(',',%s,%s))), COUNT(1), MIN(%s), MAX(%s) FROM %s WHERE %s BETWEEN ? AND ?",
+                String.join(",", columnNames), nullFlags, uniqueKey, uniqueKey, tableName, uniqueKey));
+    }
+    
     @Override
     public String getType() {
         return "H2";
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.config.ingest.InventoryDumper
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.StringPrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataUtils;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.StandardPipelineTableMetaDataLoader;
@@ -43,6 +44,7 @@ import java.sql.Statement;
 import java.sql.Types;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -109,6 +111,18 @@ class InventoryTaskSplitterTest {
         inventoryTaskSplitter.splitInventoryData(jobItemContext);
     }
     
+    @Test
+    void assertSplitInventoryDataWithStringPrimary() throws SQLException {
+        initStringPrimaryEnvironment(dumperConfig);
+        dumperConfig.setUniqueKeyColumns(Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.VARCHAR, "varchar", false, true, true)));
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(3));
+        assertThat(((StringPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getBeginValue(), is("001"));
+        assertThat(((StringPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getEndValue(), is("010"));
+        assertThat(((StringPrimaryKeyPosition) actual.get(2).getTaskProgress().getPosition()).getBeginValue(), is("021"));
+        assertThat(((StringPrimaryKeyPosition) actual.get(2).getTaskProgress().getPosition()).getEndValue(), is("025"));
+    }
+    
     @Test
     void assertSplitInventoryDataWithoutPrimaryButWithUniqueIndex() throws SQLException {
         initUniqueIndexOnNotNullColumnEnvironment(dumperConfig);
@@ -124,6 +138,35 @@ class InventoryTaskSplitterTest {
             dumperConfig.setUniqueKeyColumns(uniqueKeyColumns);
             List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
             assertThat(actual.size(), is(1));
+            assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getEndValue(), is(999L));
+        }
+    }
+    
+    @Test
+    void assertSplitInventoryDataWithMultipleColumnsKeyAndDuplicatedZero() throws SQLException {
+        initUnionPrimaryEnvironment(dumperConfig, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 2, 3, 4, 5);
+        try (PipelineDataSourceWrapper dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig())) {
+            dumperConfig.setUniqueKeyColumns(PipelineTableMetaDataUtils.getUniqueKeyColumns(null, "t_order", new StandardPipelineTableMetaDataLoader(dataSource)));
+            List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+            assertThat(actual.size(), is(2));
+            assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getBeginValue(), is(0L));
+            assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getEndValue(), is(0L));
+            assertThat(((IntegerPrimaryKeyPosition) actual.get(1).getTaskProgress().getPosition()).getBeginValue(), is(1L));
+            assertThat(((IntegerPrimaryKeyPosition) actual.get(1).getTaskProgress().getPosition()).getEndValue(), is(5L));
+        }
+    }
+    
+    @Test
+    void assertSplitInventoryDataWithMultipleColumnsKeyAndNegativeValues() throws SQLException {
+        initUnionPrimaryEnvironment(dumperConfig, IntStream.rangeClosed(-15, 4).toArray());
+        try (PipelineDataSourceWrapper dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig())) {
+            dumperConfig.setUniqueKeyColumns(PipelineTableMetaDataUtils.getUniqueKeyColumns(null, "t_order", new StandardPipelineTableMetaDataLoader(dataSource)));
+            List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+            assertThat(actual.size(), is(2));
+            assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getBeginValue(), is(-15L));
+            assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getEndValue(), is(-6L));
+            assertThat(((IntegerPrimaryKeyPosition) actual.get(1).getTaskProgress().getPosition()).getBeginValue(), is(-5L));
+            assertThat(((IntegerPrimaryKeyPosition) actual.get(1).getTaskProgress().getPosition()).getEndValue(), is(4L));
         }
     }
     
@@ -172,6 +215,19 @@ class InventoryTaskSplitterTest {
         }
     }
     
+    private void initStringPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id VARCHAR(36) PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 1; i <= 25; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES ('%03d', 'x')", i));
+            }
+        }
+    }
+    
     private void initUnionPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (
@@ -183,6 +239,19 @@ class InventoryTaskSplitterTest {
         }
     }
     
+    private void initUnionPrimaryEnvironment(final DumperConfiguration dumperConfig, final int... orderIds) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id INT, user_id VARCHAR(12), PRIMARY KEY (order_id, user_id))");
+            for (int i = 0; i < orderIds.length; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'user_%d')", orderIds[i], i));
+            }
+        }
+    }
+    
     private void initNoPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (